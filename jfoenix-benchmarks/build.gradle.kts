@@ -0,0 +1,36 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":jfoenix"))
+    // headless glass implementation, no display is needed to run the benchmarks
+    jmh("org.testfx:openjfx-monocle:8u76-b04")
+    // object graph sizes, used by the footprint benchmarks
+    jmh("org.openjdk.jol:jol-core:0.17")
+}
+
+jmh {
+    // benchmarks can be filtered with -Pjmh.includes=<regex>
+    (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    jvmArgsAppend.set(listOf(
+        "-Dglass.platform=Monocle",
+        "-Dmonocle.platform=Headless",
+        "-Dprism.order=sw",
+        "-Dprism.text=t2k",
+        "-Djava.awt.headless=true",
+        "-Xmx4g"
+    ))
+    // machine readable results, used to gate releases
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    humanOutputFile.set(layout.buildDirectory.file("results/jmh/human.txt"))
+}
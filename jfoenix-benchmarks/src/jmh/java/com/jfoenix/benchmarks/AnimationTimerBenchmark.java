@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.transitions.JFXAnimationTimer;
+import com.jfoenix.transitions.JFXKeyFrame;
+import com.jfoenix.transitions.JFXKeyValue;
+import com.jfoenix.utils.JFXUtilities;
+import javafx.animation.Interpolator;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures {@link JFXAnimationTimer#handle(long)} interpolating many key values.
+ * <p>
+ * frames are handled on the FX thread, so the gc profiler of the benchmark thread can't see
+ * their allocations. {@link #handleAllocation(Allocation)} reports the bytes allocated by the
+ * FX thread while handling the frames, which is expected to be 0 for numeric targets.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationTimerBenchmark {
+
+    private static final int FRAMES = 100;
+
+    @Param({"10", "100", "1000"})
+    public int keyValues;
+
+    private JFXAnimationTimer timer;
+
+    @Setup(Level.Trial)
+    public void createTimer() {
+        FXToolkit.start();
+        final JFXKeyValue<?>[] values = new JFXKeyValue<?>[keyValues];
+        for (int i = 0; i < keyValues; i++) {
+            final DoubleProperty target = new SimpleDoubleProperty(0);
+            values[i] = JFXKeyValue.builder()
+                .setTarget(target)
+                .setEndValue(1.0 + i)
+                .setInterpolator(Interpolator.EASE_BOTH)
+                .build();
+        }
+        // long enough to never finish while measuring
+        timer = new JFXAnimationTimer(new JFXKeyFrame(Duration.hours(1), values));
+        JFXUtilities.runInFXAndWait(timer::start);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopTimer() {
+        JFXUtilities.runInFXAndWait(timer::stop);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void handle() {
+        // frames are handled on the FX thread, as the toolkit pulses do
+        JFXUtilities.runInFXAndWait(() -> {
+            for (int i = 0; i < FRAMES; i++) {
+                timer.handle(System.nanoTime());
+            }
+        });
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+        private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        /**
+         * bytes allocated while handling the frames
+         */
+        public long allocatedBytes;
+        public long frames;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allocatedBytes = 0;
+            frames = 0;
+        }
+
+        static long allocated() {
+            return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void handleAllocation(Allocation allocation) {
+        JFXUtilities.runInFXAndWait(() -> {
+            // the allocation of reading the counter itself is measured then subtracted
+            final long calibrationStart = Allocation.allocated();
+            final long calibration = Allocation.allocated() - calibrationStart;
+            final long start = Allocation.allocated();
+            for (int i = 0; i < FRAMES; i++) {
+                timer.handle(System.nanoTime());
+            }
+            allocation.allocatedBytes += Math.max(0, Allocation.allocated() - start - calibration);
+            allocation.frames += FRAMES;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.utils.JFXHighlighter;
+import com.jfoenix.utils.JFXUtilities;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures {@link JFXHighlighter} queries over a scrollable document of text nodes
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HighlighterBenchmark {
+
+    private static final String[] WORDS = {"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit"};
+
+    @Param({"1000", "10000"})
+    public int nodes;
+
+    private VBox document;
+    private JFXHighlighter highlighter;
+
+    @Setup(Level.Trial)
+    public void createDocument() {
+        FXToolkit.start();
+        JFXUtilities.runInFXAndWait(() -> {
+            document = new VBox();
+            for (int i = 0; i < nodes; i++) {
+                final StringBuilder line = new StringBuilder();
+                for (int j = 0; j < 8; j++) {
+                    line.append(WORDS[(i * 7 + j * 3) % WORDS.length]).append(' ');
+                }
+                document.getChildren().add(i % 2 == 0 ? new Text(line.toString()) : new Label(line.toString()));
+            }
+            final Scene scene = new Scene(new ScrollPane(document), 800, 600);
+            scene.getRoot().applyCss();
+            scene.getRoot().layout();
+            highlighter = new JFXHighlighter();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void highlight() {
+        apply(() -> highlighter.highlight(document, "lorem"));
+        apply(() -> highlighter.highlight(document, "amet"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void type() {
+        final String query = "consectetur";
+        for (int i = 1; i <= 5; i++) {
+            final String prefix = query.substring(0, i);
+            apply(() -> highlighter.highlight(document, prefix));
+        }
+        apply(highlighter::clear);
+    }
+
+    /**
+     * requests a highlight change then waits for the highlighter to apply it
+     */
+    private static void apply(Runnable request) {
+        JFXUtilities.runInFXAndWait(request);
+        // the highlighter applies its changes in a runLater queued before this one
+        JFXUtilities.runInFXAndWait(() -> {
+        });
+    }
+}
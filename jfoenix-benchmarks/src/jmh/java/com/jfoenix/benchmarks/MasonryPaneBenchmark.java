@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.controls.JFXMasonryPane;
+import com.jfoenix.utils.JFXUtilities;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures a full layout pass of {@link JFXMasonryPane} and appending one child,
+ * comparing the layout modes
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MasonryPaneBenchmark {
+
+    @Param({"1000"})
+    public int children;
+
+    @Param({"MASONRY", "BIN_PACKING", "SKYLINE"})
+    public String layoutMode;
+
+    private JFXMasonryPane pane;
+    private Region appended;
+
+    @Setup(Level.Trial)
+    public void createPane() {
+        FXToolkit.start();
+        JFXUtilities.runInFXAndWait(() -> {
+            pane = new JFXMasonryPane();
+            pane.setLayoutMode(layoutMode());
+            // enough rows to place all the children
+            pane.setLimitRow(children);
+            final Random random = new Random(42);
+            for (int i = 0; i < children; i++) {
+                pane.getChildren().add(createChild(random));
+            }
+            pane.resize(1200, 800);
+            pane.layout();
+        });
+        appended = createChild(new Random(7));
+    }
+
+    private JFXMasonryPane.LayoutMode layoutMode() {
+        switch (layoutMode) {
+            case "BIN_PACKING":
+                return JFXMasonryPane.LayoutMode.BIN_PACKING;
+            case "SKYLINE":
+                return JFXMasonryPane.LayoutMode.SKYLINE;
+            default:
+                return JFXMasonryPane.LayoutMode.MASONRY;
+        }
+    }
+
+    private Region createChild(Random random) {
+        Region child = new Region();
+        child.setPrefSize(pane.getCellWidth() * (1 + random.nextInt(2)),
+            pane.getCellHeight() * (1 + random.nextInt(3)));
+        return child;
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeAppended() {
+        JFXUtilities.runInFXAndWait(() -> {
+            if (pane.getChildren().remove(appended)) {
+                pane.layout();
+            }
+        });
+    }
+
+    @Benchmark
+    public double layoutChildren() {
+        JFXUtilities.runInFXAndWait(() -> {
+            // the layout is skipped unless the grid is invalidated
+            pane.clearLayout();
+            pane.requestLayout();
+            pane.layout();
+        });
+        return pane.getPrefHeight();
+    }
+
+    @Benchmark
+    public double appendChild() {
+        JFXUtilities.runInFXAndWait(() -> {
+            // the skyline layout only places the appended child
+            pane.getChildren().add(appended);
+            pane.layout();
+        });
+        return pane.getPrefHeight();
+    }
+}
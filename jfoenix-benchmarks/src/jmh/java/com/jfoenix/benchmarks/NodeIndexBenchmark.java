@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.utils.JFXNodeIndex;
+import com.jfoenix.utils.JFXNodeUtils;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares {@link JFXNodeUtils#getAllChildren(Node, Class)} with {@link JFXNodeIndex} queries
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NodeIndexBenchmark {
+
+    @Param({"1000", "10000"})
+    public int nodes;
+
+    private VBox root;
+    private JFXNodeIndex index;
+
+    @Setup(Level.Trial)
+    public void createTree() {
+        FXToolkit.start();
+        root = new VBox();
+        Pane row = null;
+        for (int i = 0; i < nodes; i++) {
+            if (i % 20 == 0) {
+                row = i % 40 == 0 ? new VBox() : new Pane();
+                root.getChildren().add(new Group(row));
+            }
+            final Node node = i % 50 == 0 ? new Button("button " + i) : new Label("label " + i);
+            if (i % 10 == 0) {
+                node.getStyleClass().add("highlighted");
+            }
+            row.getChildren().add(node);
+        }
+        index = new JFXNodeIndex(root);
+        index.size();
+    }
+
+    @Benchmark
+    public Set<Button> getAllChildren() {
+        return JFXNodeUtils.getAllChildren(root, Button.class);
+    }
+
+    @Benchmark
+    public Set<Button> indexByClass() {
+        return index.getNodes(Button.class);
+    }
+
+    @Benchmark
+    public Set<Button> indexTopmostByClass() {
+        // same result as getAllChildren
+        return index.getTopmostNodes(Button.class);
+    }
+
+    @Benchmark
+    public Set<Node> indexByStyleClass() {
+        return index.getNodesWithStyleClass("highlighted");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.controls.RecursiveTreeItem;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures the retained footprint of the {@link RecursiveTreeItem} leaves with JOL
+ * <p>
+ * the footprint of a tree is the size of the objects reachable from the tree items and the
+ * data, minus the size of the data measured before building the tree. It includes the
+ * listeners registered on the children lists of the data, which are also reported on their
+ * own by {@link Footprint#listenerBytesPerRow}. {@code compact} leaves are created by a root
+ * tree item and register no listener, their footprint includes the share of the root lists
+ * and map. {@code full} leaves are created alone by the public constructor, which allocates
+ * their lists and listener.
+ * <p>
+ * <b>Note:</b> only the counters are meaningful, the time includes walking the object graph.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecursiveTreeItemFootprintBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"compact", "full"})
+    public String leaves;
+
+    private ObservableList<Row> items;
+    private long dataBytes;
+
+    @Setup(Level.Trial)
+    public void startToolkit() {
+        FXToolkit.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void createItems() {
+        items = Row.create(rows);
+        dataBytes = GraphLayout.parseInstance(items).totalSize();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /**
+         * retained bytes of the tree items per data row
+         */
+        public double bytesPerRow;
+        /**
+         * bytes of the listeners registered on the data children lists per data row
+         */
+        public double listenerBytesPerRow;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerRow = 0;
+            listenerBytesPerRow = 0;
+        }
+    }
+
+    @Benchmark
+    public Object footprint(Footprint footprint) {
+        final Object tree;
+        long holderBytes = 0;
+        if ("compact".equals(leaves)) {
+            tree = new RecursiveTreeItem<>(items, RecursiveTreeObject::getChildren, false);
+        } else {
+            final Object[] fullLeaves = new Object[rows];
+            for (int i = 0; i < rows; i++) {
+                fullLeaves[i] = new RecursiveTreeItem<>(items.get(i), null, RecursiveTreeObject::getChildren, false);
+            }
+            // the array only holds the leaves for the measure
+            holderBytes = VM.current().sizeOf(fullLeaves);
+            tree = fullLeaves;
+        }
+        final GraphLayout layout = GraphLayout.parseInstance(tree, items);
+        long listenerBytes = 0;
+        for (Class<?> type : layout.getClasses()) {
+            if (isChildrenListener(type)) {
+                listenerBytes += layout.getClassSizes().count(type);
+            }
+        }
+        footprint.bytesPerRow = (double) (layout.totalSize() - dataBytes - holderBytes) / rows;
+        footprint.listenerBytesPerRow = (double) listenerBytes / rows;
+        return tree;
+    }
+
+    /**
+     * @return true for the listeners of the tree items on the data children lists and the
+     * helpers holding them in the lists
+     */
+    private static boolean isChildrenListener(Class<?> type) {
+        return type.getName().startsWith("com.sun.javafx.collections.ListListenerHelper")
+               || ListChangeListener.class.isAssignableFrom(type)
+                  && type.getName().startsWith(RecursiveTreeItem.class.getName());
+    }
+}
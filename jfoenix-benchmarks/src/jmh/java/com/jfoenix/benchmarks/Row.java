@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * data model used by the tree table benchmarks
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class Row extends RecursiveTreeObject<Row> {
+
+    private static final String[] DEPARTMENTS = {"Sales", "Marketing", "Engineering", "Support", "Finance",
+        "Legal", "Operations", "Research"};
+
+    final StringProperty department;
+    final StringProperty city;
+    final IntegerProperty age;
+
+    private Row(String department, String city, int age) {
+        this.department = new SimpleStringProperty(department);
+        this.city = new SimpleStringProperty(city);
+        this.age = new SimpleIntegerProperty(age);
+    }
+
+    /**
+     * @return the specified number of rows, generated from a fixed seed
+     */
+    static ObservableList<Row> create(int count) {
+        final Random random = new Random(42);
+        final List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                "City " + random.nextInt(100),
+                18 + random.nextInt(50)));
+        }
+        return FXCollections.observableArrayList(rows);
+    }
+}
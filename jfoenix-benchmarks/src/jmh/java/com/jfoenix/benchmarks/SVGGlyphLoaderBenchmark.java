@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.svg.SVGGlyphLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures {@link SVGGlyphLoader} font loading with generated svg fonts
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SVGGlyphLoaderBenchmark {
+
+    private static final int FONTS = 4;
+
+    @Param({"100", "1000", "10000"})
+    public int glyphs;
+
+    private Path fontFile;
+    private URL fontUrl;
+    private final Path[] fontFiles = new Path[FONTS];
+    private final URL[] fontUrls = new URL[FONTS];
+
+    @Setup(Level.Trial)
+    public void createFont() throws IOException {
+        fontFile = createFont(glyphs);
+        fontUrl = fontFile.toUri().toURL();
+        for (int i = 0; i < FONTS; i++) {
+            fontFiles[i] = createFont(glyphs);
+            fontUrls[i] = fontFiles[i].toUri().toURL();
+        }
+    }
+
+    private static Path createFont(int glyphs) throws IOException {
+        Path fontFile = Files.createTempFile("jfoenix-benchmark", ".svg");
+        try (Writer writer = Files.newBufferedWriter(fontFile, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" standalone=\"no\"?>\n");
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\"><defs><font id=\"benchmark\" horiz-adv-x=\"1024\">\n");
+            writer.write("<font-face units-per-em=\"1024\" ascent=\"960\" descent=\"-64\"/>\n");
+            for (int i = 0; i < glyphs; i++) {
+                writer.write("<glyph unicode=\"&#x" + Integer.toHexString(0xe000 + i) + ";\" glyph-name=\"glyph-" + i
+                             + "\" d=\"M" + i % 512 + " 0l512 0l0 512l-512 0zM128 128l256 0l0 256l-256 0z\"/>\n");
+            }
+            writer.write("</font></defs></svg>\n");
+        }
+        return fontFile;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFont() throws IOException {
+        SVGGlyphLoader.clear();
+        Files.deleteIfExists(fontFile);
+        for (Path file : fontFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public int loadGlyphsFont() throws IOException {
+        SVGGlyphLoader.clear();
+        SVGGlyphLoader.loadGlyphsFont(fontUrl);
+        return SVGGlyphLoader.getAllGlyphsIDs().size();
+    }
+
+    @Benchmark
+    public int loadGlyphsFontStream() throws IOException {
+        SVGGlyphLoader.clear();
+        SVGGlyphLoader.loadGlyphsFont(Files.newInputStream(fontFile), "benchmark");
+        return SVGGlyphLoader.getAllGlyphsIDs().size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FONTS)
+    public int loadGlyphsFontsAsync() {
+        SVGGlyphLoader.clear();
+        SVGGlyphLoader.loadGlyphsFontsAsync(fontUrls).join();
+        return SVGGlyphLoader.getAllGlyphsIDs().size();
+    }
+}
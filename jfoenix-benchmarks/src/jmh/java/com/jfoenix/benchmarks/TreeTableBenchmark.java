@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.benchmarks;
+
+import com.jfoenix.controls.JFXTreeTableColumn;
+import com.jfoenix.controls.JFXTreeTableView;
+import com.jfoenix.controls.RecursiveTreeItem;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import com.jfoenix.utils.JFXUtilities;
+import javafx.beans.InvalidationListener;
+import javafx.scene.control.TreeItem;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * measures grouping, ungrouping and filtering of {@link JFXTreeTableView}
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TreeTableBenchmark {
+
+    @State(Scope.Thread)
+    public static class Table {
+        @Param({"10000", "100000", "1000000"})
+        public int rows;
+
+        JFXTreeTableView<Row> treeTableView;
+        RecursiveTreeItem<Row> root;
+        JFXTreeTableColumn<Row, String> departmentColumn;
+        JFXTreeTableColumn<Row, String> cityColumn;
+
+        @Setup(Level.Trial)
+        public void createTable() {
+            FXToolkit.start();
+            JFXUtilities.runInFXAndWait(() -> {
+                departmentColumn = new JFXTreeTableColumn<>("Department");
+                departmentColumn.setCellValueFactory(param -> param.getValue().getValue().department);
+                cityColumn = new JFXTreeTableColumn<>("City");
+                cityColumn.setCellValueFactory(param -> param.getValue().getValue().city);
+                root = new RecursiveTreeItem<>(Row.create(rows), RecursiveTreeObject::getChildren);
+                treeTableView = new JFXTreeTableView<>(root);
+                treeTableView.setShowRoot(false);
+                treeTableView.getColumns().add(departmentColumn);
+                treeTableView.getColumns().add(cityColumn);
+            });
+        }
+
+        void group() {
+            treeTableView.group(departmentColumn, cityColumn);
+            // wait for the grouped root to be shown
+            JFXUtilities.runInFXAndWait(() -> {
+            });
+        }
+
+        void unGroup() {
+            treeTableView.unGroup(departmentColumn, cityColumn);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Ungrouped extends Table {
+        @TearDown(Level.Invocation)
+        public void reset() {
+            unGroup();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Grouped extends Table {
+        @Setup(Level.Invocation)
+        public void prepare() {
+            group();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Filtered extends Table {
+        private static final Predicate<TreeItem<Row>> ALL = item -> true;
+        private static final Predicate<TreeItem<Row>> ADULTS = item -> item.getValue().age.get() > 40;
+
+        @Param({"false", "true"})
+        public boolean grouped;
+
+        boolean toggle;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            // the filter requests are not debounced
+            JFXUtilities.runInFXAndWait(() -> treeTableView.setFilterDelay(Duration.ZERO));
+            if (grouped) {
+                group();
+            }
+        }
+
+        Predicate<TreeItem<Row>> nextPredicate() {
+            toggle = !toggle;
+            return toggle ? ADULTS : ALL;
+        }
+
+        /**
+         * sets the next predicate of the table, then waits for its filter pass to be shown and counted
+         */
+        int filter() throws InterruptedException {
+            final CountDownLatch filtered = new CountDownLatch(1);
+            final InvalidationListener filteringListener = observable -> {
+                if (!treeTableView.isFiltering()) {
+                    filtered.countDown();
+                }
+            };
+            JFXUtilities.runInFXAndWait(() -> {
+                treeTableView.setPredicate(nextPredicate());
+                treeTableView.filteringProperty().addListener(filteringListener);
+            });
+            try {
+                if (!filtered.await(1, TimeUnit.MINUTES)) {
+                    throw new IllegalStateException("The filter pass did not complete.");
+                }
+            } finally {
+                JFXUtilities.runInFXAndWait(() -> treeTableView.filteringProperty().removeListener(filteringListener));
+            }
+            return treeTableView.getCurrentItemsCount();
+        }
+    }
+
+    @Benchmark
+    public TreeItem<Row> group(Ungrouped table) {
+        table.group();
+        return table.treeTableView.getRoot();
+    }
+
+    @Benchmark
+    public TreeItem<Row> unGroup(Grouped table) {
+        table.unGroup();
+        return table.treeTableView.getRoot();
+    }
+
+    @Benchmark
+    public int filter(Filtered table) throws InterruptedException {
+        // the whole pipeline: pass outside the FX thread, apply, regroup if needed and count
+        return table.filter();
+    }
+}
@@ -2,12 +2,28 @@ plugins {
     java
 }
 
+repositories {
+    mavenCentral()
+}
+
 val java9 = sourceSets.create("java9") {
     java {
         srcDir("src/main/java9")
     }
 }
 
+val java21 = sourceSets.create("java21") {
+    java {
+        srcDir("src/main/java21")
+    }
+}
+
+dependencies {
+    // JavaFX is not part of the JDK used to compile the java9 sources
+    "java9CompileOnly"("org.openjfx:javafx-base:11:linux")
+    "java9CompileOnly"("org.openjfx:javafx-graphics:11:linux")
+}
+
 tasks.compileJava {
     javaToolchains.compilerFor {
         languageVersion.set(JavaLanguageVersion.of(8))
@@ -23,9 +39,28 @@ tasks.getByName<JavaCompile>(java9.compileJavaTaskName) {
     targetCompatibility = "9"
 }
 
+tasks.getByName<JavaCompile>(java21.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+
+    sourceCompatibility = "21"
+    targetCompatibility = "21"
+}
+
 tasks.processResources {
     dependsOn(tasks[java9.classesTaskName])
     into("META-INF/versions/9") {
         from(java9.output)
     }
+    dependsOn(tasks[java21.classesTaskName])
+    into("META-INF/versions/21") {
+        from(java21.output)
+    }
+}
+
+tasks.jar {
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
 }
@@ -22,15 +22,9 @@
 package com.jfoenix.cache;
 
 import com.jfoenix.transitions.CacheMemento;
-import javafx.scene.CacheHint;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
-import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
 
-import java.util.ArrayList;
 import java.util.WeakHashMap;
 
 public interface CachePolicy<T extends Node> {
@@ -74,32 +68,20 @@ public interface CachePolicy<T extends Node> {
     };
 
 
+    /**
+     * replaces the children of the pane with a snapshot while animating, the snapshots
+     * are kept by {@link SnapshotCache#getDefault()}
+     */
     CachePolicy<Pane> IMAGE = new CachePolicy<Pane>() {
 
-        private final WeakHashMap<Node, ArrayList<Node>> cache = new WeakHashMap<>();
-
         @Override
         public void cache(Pane node) {
-            if (!cache.containsKey(node)) {
-                SnapshotParameters snapShotparams = new SnapshotParameters();
-                snapShotparams.setFill(Color.TRANSPARENT);
-                WritableImage temp = node.snapshot(snapShotparams,
-                    new WritableImage((int) node.getLayoutBounds().getWidth(),
-                        (int) node.getLayoutBounds().getHeight()));
-                ImageView tempImage = new ImageView(temp);
-                tempImage.setCache(true);
-                tempImage.setCacheHint(CacheHint.SPEED);
-                cache.put(node, new ArrayList<>(node.getChildren()));
-                node.getChildren().setAll(tempImage);
-            }
+            SnapshotCache.getDefault().cache(node);
         }
 
         @Override
         public void restore(Pane node) {
-            ArrayList<Node> children = cache.remove(node);
-            if (children != null) {
-                node.getChildren().setAll(children);
-            }
+            SnapshotCache.getDefault().restore(node);
         }
     };
 
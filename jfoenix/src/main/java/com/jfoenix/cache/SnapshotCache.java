@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.cache;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * SnapshotCache keeps the snapshots used by {@link CachePolicy#IMAGE} within a memory budget.
+ * <p>
+ * by default a new snapshot is taken each time a pane is cached, into a buffer reused from
+ * previous snapshots of the same size. Snapshots are taken at the output scale of the
+ * window to stay sharp on HiDPI screens.
+ * <p>
+ * if {@link #setReuseSnapshots(boolean) reuse} is enabled, the snapshot is kept after the
+ * pane is restored so caching the same pane again reuses it, unless the layout bounds or the
+ * children of the pane changed meanwhile, or a node of the pane needs layout. Other changes
+ * of the descendants (e.g. a color or a text that keeps the node size) are not detected,
+ * {@link #invalidate(Pane)} must be called for them. Kept snapshots are evicted in least
+ * recently used order once the budget is exceeded.
+ * <p>
+ * <b>Note:</b> this class must be used from the FX thread.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SnapshotCache {
+
+    private static final SnapshotCache DEFAULT = new SnapshotCache(64L * 1024 * 1024);
+
+    /**
+     * number of released buffers kept for reuse per image size
+     */
+    private static final int POOL_SIZE_PER_DIMENSION = 2;
+
+    /**
+     * @return the snapshot cache used by {@link CachePolicy#IMAGE}
+     */
+    public static SnapshotCache getDefault() {
+        return DEFAULT;
+    }
+
+    private final WeakHashMap<Pane, Entry> entries = new WeakHashMap<>();
+    // least recently used entries first
+    private final LinkedHashSet<Entry> usage = new LinkedHashSet<>();
+    private final Map<Long, ArrayDeque<WritableImage>> pool = new HashMap<>();
+
+    private long maxBytes;
+    private long usedBytes = 0;
+    private boolean reuseSnapshots = false;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * creates snapshot cache
+     *
+     * @param maxBytes memory budget of the cached snapshots, in bytes
+     */
+    public SnapshotCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * replaces the children of the pane with a snapshot of it
+     *
+     * @param pane to be cached
+     */
+    public void cache(Pane pane) {
+        final double width = pane.getLayoutBounds().getWidth();
+        final double height = pane.getLayoutBounds().getHeight();
+        if (width < 1 || height < 1) {
+            return;
+        }
+        Entry entry = entries.get(pane);
+        if (entry == null) {
+            entry = new Entry(pane);
+            entries.put(pane, entry);
+        }
+        if (entry.children != null) {
+            // already showing the snapshot
+            return;
+        }
+
+        final double scaleX = OutputScale.scaleX(pane);
+        final double scaleY = OutputScale.scaleY(pane);
+        final int imageWidth = (int) Math.ceil(width * scaleX);
+        final int imageHeight = (int) Math.ceil(height * scaleY);
+        if (reuseSnapshots && entry.image != null && entry.valid && !needsLayout(pane)
+            && (int) entry.image.getWidth() == imageWidth && (int) entry.image.getHeight() == imageHeight) {
+            hitCount++;
+        } else {
+            missCount++;
+            release(entry, true);
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            parameters.setTransform(Transform.scale(scaleX, scaleY));
+            entry.image = pane.snapshot(parameters, takeBuffer(imageWidth, imageHeight));
+            entry.valid = true;
+            usedBytes += bytesOf(entry.image);
+        }
+        usage.remove(entry);
+        usage.add(entry);
+
+        ImageView imageView = new ImageView(entry.image);
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
+        imageView.setCache(true);
+        imageView.setCacheHint(CacheHint.SPEED);
+        entry.children = new ArrayList<>(pane.getChildren());
+        entry.updating = true;
+        try {
+            pane.getChildren().setAll(imageView);
+        } finally {
+            entry.updating = false;
+        }
+        trim();
+    }
+
+    /**
+     * puts back the children of the pane replaced by {@link #cache(Pane)}
+     *
+     * @param pane to be restored
+     */
+    public void restore(Pane pane) {
+        final Entry entry = entries.get(pane);
+        if (entry == null || entry.children == null) {
+            return;
+        }
+        entry.updating = true;
+        try {
+            pane.getChildren().setAll(entry.children);
+        } finally {
+            entry.updating = false;
+        }
+        entry.children = null;
+        if (!reuseSnapshots || !entry.valid) {
+            evict(entry, true);
+        }
+        trim();
+    }
+
+    /**
+     * drops the snapshot of the specified pane, it should be called when the content of
+     * the pane changed without changing its layout bounds or children
+     *
+     * @param pane to be invalidated
+     */
+    public void invalidate(Pane pane) {
+        final Entry entry = entries.get(pane);
+        if (entry != null) {
+            entry.valid = false;
+            if (entry.children == null) {
+                evict(entry, true);
+            }
+        }
+    }
+
+    /**
+     * drops all the snapshots that are not currently shown and the reusable buffers
+     */
+    public void clear() {
+        for (Entry entry : new ArrayList<>(usage)) {
+            if (entry.children == null) {
+                evict(entry, false);
+            }
+        }
+        for (ArrayDeque<WritableImage> buffers : pool.values()) {
+            for (WritableImage buffer : buffers) {
+                usedBytes -= bytesOf(buffer);
+            }
+        }
+        pool.clear();
+    }
+
+    /**
+     * @return true if the node or one of its descendants needs layout
+     */
+    private static boolean needsLayout(Parent parent) {
+        if (parent.isNeedsLayout()) {
+            return true;
+        }
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            if (child instanceof Parent && needsLayout((Parent) child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private WritableImage takeBuffer(int width, int height) {
+        final ArrayDeque<WritableImage> buffers = pool.get(dimensionKey(width, height));
+        if (buffers != null && !buffers.isEmpty()) {
+            final WritableImage buffer = buffers.poll();
+            usedBytes -= bytesOf(buffer);
+            return buffer;
+        }
+        return new WritableImage(width, height);
+    }
+
+    /**
+     * releases the snapshot of the entry
+     *
+     * @param recycle whether to keep the image buffer for reuse
+     */
+    private void release(Entry entry, boolean recycle) {
+        usage.remove(entry);
+        if (entry.image == null) {
+            return;
+        }
+        final WritableImage image = entry.image;
+        entry.image = null;
+        usedBytes -= bytesOf(image);
+        if (recycle) {
+            final ArrayDeque<WritableImage> buffers = pool.computeIfAbsent(
+                dimensionKey((int) image.getWidth(), (int) image.getHeight()), key -> new ArrayDeque<>());
+            if (buffers.size() < POOL_SIZE_PER_DIMENSION) {
+                buffers.add(image);
+                usedBytes += bytesOf(image);
+            }
+        }
+    }
+
+    /**
+     * releases the snapshot of an entry that is not shown and stops following its pane,
+     * the entry is created again the next time the pane is cached
+     *
+     * @param recycle whether to keep the image buffer for reuse
+     */
+    private void evict(Entry entry, boolean recycle) {
+        release(entry, recycle);
+        entry.dispose();
+    }
+
+    /**
+     * evicts reusable buffers then least recently used snapshots until the budget is met,
+     * snapshots currently shown are never evicted
+     */
+    private void trim() {
+        final Iterator<ArrayDeque<WritableImage>> buffers = pool.values().iterator();
+        while (usedBytes > maxBytes && buffers.hasNext()) {
+            for (WritableImage buffer : buffers.next()) {
+                usedBytes -= bytesOf(buffer);
+            }
+            buffers.remove();
+        }
+        final Iterator<Entry> iterator = usage.iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.children == null) {
+                iterator.remove();
+                usedBytes -= bytesOf(entry.image);
+                entry.image = null;
+                entry.dispose();
+                evictionCount++;
+            }
+        }
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * sets the memory budget of the cached snapshots, in bytes
+     *
+     * @param maxBytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        trim();
+    }
+
+    public boolean isReuseSnapshots() {
+        return reuseSnapshots;
+    }
+
+    /**
+     * sets whether the snapshot of a pane is kept after it's restored, to be reused the
+     * next time the pane is cached. Changes of the descendants that don't affect their layout
+     * are not detected, see {@link #invalidate(Pane)}
+     *
+     * @param reuseSnapshots
+     */
+    public void setReuseSnapshots(boolean reuseSnapshots) {
+        this.reuseSnapshots = reuseSnapshots;
+        if (!reuseSnapshots) {
+            for (Entry entry : new ArrayList<>(usage)) {
+                if (entry.children == null) {
+                    evict(entry, true);
+                }
+            }
+            trim();
+        }
+    }
+
+    /**
+     * @return the memory used by the snapshots and the reusable buffers, in bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * @return the number of times a kept snapshot was reused
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of times a new snapshot was taken
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of snapshots evicted to meet the memory budget
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static long bytesOf(WritableImage image) {
+        // pixels are stored as 32 bit ARGB
+        return image == null ? 0 : 4L * (long) image.getWidth() * (long) image.getHeight();
+    }
+
+    private static long dimensionKey(int width, int height) {
+        return ((long) width << 32) | height;
+    }
+
+    private final class Entry {
+        private final WeakReference<Pane> pane;
+        private WritableImage image;
+        private boolean valid = true;
+        /**
+         * children of the pane while the snapshot is shown
+         */
+        private List<Node> children;
+        private boolean updating = false;
+        private final InvalidationListener invalidationListener;
+
+        Entry(Pane pane) {
+            this.pane = new WeakReference<>(pane);
+            invalidationListener = observable -> {
+                if (!updating && this.pane.get() != null) {
+                    invalidate(this.pane.get());
+                }
+            };
+            pane.layoutBoundsProperty().addListener(invalidationListener);
+            pane.getChildren().addListener(invalidationListener);
+        }
+
+        /**
+         * removes the listeners of the pane and drops this entry
+         */
+        void dispose() {
+            final Pane pane = this.pane.get();
+            if (pane != null) {
+                pane.layoutBoundsProperty().removeListener(invalidationListener);
+                pane.getChildren().removeListener(invalidationListener);
+                entries.remove(pane, this);
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ package com.jfoenix.controls;
 
 import com.jfoenix.controls.events.JFXAutoCompleteEvent;
 import com.jfoenix.skins.JFXAutoCompletePopupSkin;
+import com.jfoenix.utils.JFXDispatcher;
+import com.jfoenix.utils.JFoenixExecutors;
 import com.sun.javafx.css.converters.SizeConverter;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
@@ -45,11 +47,15 @@ import javafx.util.Callback;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 
 /**
  * JFXAutoCompletePopup is an animated popup list view that allow filtering
  * suggestions according to some predicate.
+ * <p>
+ * for large suggestion sets, a {@link SuggestionProvider} can be used instead, see {@link #suggest(String)}.
  *
  * @author Shadi Shaheen
  * @version 1.1.0
@@ -61,6 +67,9 @@ public class JFXAutoCompletePopup<T> extends PopupControl {
     private final ObjectProperty<EventHandler<JFXAutoCompleteEvent<T>>> selectionHandler = new SimpleObjectProperty<>();
     private final FilteredList<T> filteredData = new FilteredList<T>(suggestions, s -> true);
     private final ObjectProperty<Callback<ListView<T>, ListCell<T>>> suggestionsCellFactory = new SimpleObjectProperty<Callback<ListView<T>, ListCell<T>>>();
+    private final ObservableList<T> providedSuggestions = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableProvidedSuggestions = FXCollections.unmodifiableObservableList(providedSuggestions);
+    private CompletableFuture<List<T>> suggestionRequest;
 
     private static final String DEFAULT_STYLE_CLASS = "jfx-autocomplete-popup";
 
@@ -104,6 +113,88 @@ public class JFXAutoCompletePopup<T> extends PopupControl {
         return filteredData;
     }
 
+    /**
+     * computes the suggestions of the specified query using the suggestion provider
+     * outside the FX thread, only the best {@link #getCellLimit() cellLimit} suggestions
+     * are shown. A pending query is cancelled when a new one is requested.
+     * <b>Note:</b> this method must be called on the FX thread.
+     *
+     * @param query typed by the user
+     * @return the suggestions shown for the query, completed on the FX thread once they are
+     * shown. It completes exceptionally if the provider fails, and is cancelled if the query
+     * is superseded. Cancelling it cancels the query.
+     * @throws IllegalStateException if the suggestion provider is not set
+     */
+    public CompletableFuture<List<T>> suggest(String query) {
+        final SuggestionProvider<T> provider = getSuggestionProvider();
+        if (provider == null) {
+            throw new IllegalStateException("Can not suggest. The suggestion provider is not set.");
+        }
+        cancelSuggestionRequest();
+        final CompletableFuture<List<T>> request = new CompletableFuture<>();
+        suggestionRequest = request;
+        final int limit = getCellLimit();
+        JFoenixExecutors.supplyAsync(() -> request.isDone() ? null : provider.suggest(query, limit, request::isDone))
+            .whenComplete((result, error) -> {
+                if (request.isDone()) {
+                    return;
+                }
+                JFXDispatcher.dispatch(providedSuggestions, () -> {
+                    if (suggestionRequest != request || request.isDone()) {
+                        return;
+                    }
+                    suggestionRequest = null;
+                    if (error != null) {
+                        request.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                        return;
+                    }
+                    final List<T> shown = result == null ? Collections.emptyList()
+                        : result.size() > limit ? result.subList(0, limit) : result;
+                    providedSuggestions.setAll(shown);
+                    request.complete(Collections.unmodifiableList(new ArrayList<>(shown)));
+                });
+            });
+        return request;
+    }
+
+    private void cancelSuggestionRequest() {
+        if (suggestionRequest != null) {
+            suggestionRequest.cancel(false);
+            suggestionRequest = null;
+        }
+    }
+
+    /**
+     * @return the suggestions computed by the suggestion provider
+     */
+    public ObservableList<T> getProvidedSuggestions() {
+        return unmodifiableProvidedSuggestions;
+    }
+
+    /**
+     * the provider used to compute the suggestions in {@link #suggest(String)}, if set
+     * the popup shows the provided suggestions instead of the filtered ones
+     */
+    private final ObjectProperty<SuggestionProvider<T>> suggestionProvider = new SimpleObjectProperty<SuggestionProvider<T>>(this, "suggestionProvider") {
+        @Override
+        protected void invalidated() {
+            cancelSuggestionRequest();
+            providedSuggestions.clear();
+        }
+    };
+
+    public final ObjectProperty<SuggestionProvider<T>> suggestionProviderProperty() {
+        return suggestionProvider;
+    }
+
+    public final SuggestionProvider<T> getSuggestionProvider() {
+        return suggestionProvider.get();
+    }
+
+    public final void setSuggestionProvider(SuggestionProvider<T> suggestionProvider) {
+        this.suggestionProvider.set(suggestionProvider);
+    }
+
     public EventHandler<JFXAutoCompleteEvent<T>> getSelectionHandler() {
         return selectionHandler.get();
     }
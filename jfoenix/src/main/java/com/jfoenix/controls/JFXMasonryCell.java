@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.scene.control.IndexedCell;
+
+/**
+ * cell used by {@link JFXVirtualMasonryPane} to show one tile, cells are reused
+ * for other items as the pane is scrolled, similar to {@link javafx.scene.control.ListCell}.
+ * <p>
+ * subclasses should override {@link #updateItem(Object, boolean)} to update the tile content.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class JFXMasonryCell<T> extends IndexedCell<T> {
+
+    private static final String DEFAULT_STYLE_CLASS = "jfx-masonry-cell";
+
+    private JFXVirtualMasonryPane<T> masonryPane;
+
+    public JFXMasonryCell() {
+        getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+
+    /**
+     * @return the masonry pane this cell is used by
+     */
+    public final JFXVirtualMasonryPane<T> getMasonryPane() {
+        return masonryPane;
+    }
+
+    /**
+     * sets the masonry pane of this cell, called by the masonry pane when the cell is created
+     *
+     * @param masonryPane using this cell
+     */
+    public final void updateMasonryPane(JFXVirtualMasonryPane<T> masonryPane) {
+        this.masonryPane = masonryPane;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateIndex(int index) {
+        super.updateIndex(index);
+        if (masonryPane == null || index < 0 || index >= masonryPane.getItems().size()) {
+            updateItem(null, true);
+        } else {
+            updateItem(masonryPane.getItems().get(index), false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty) {
+            setText(null);
+            setGraphic(null);
+        } else {
+            setText(item == null ? "" : item.toString());
+        }
+    }
+}
@@ -22,12 +22,8 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.transitions.CachedTransition;
+import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.ParallelTransition;
-import javafx.animation.Timeline;
-import javafx.animation.Transition;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
@@ -57,8 +53,14 @@ import java.util.List;
  * <p><h3>Bin Packing Layout(First Fit)</h3> it works similar to masonry layoutMode, however it tries to
  * fill the empty gaps caused in masonry layoutMode.
  *
+ * <p><h3>Skyline Layout</h3> Nodes are placed on the lowest columns of the grid, keeping only the height
+ * of each column. it doesn't use the row limit, and adding nodes at the end only places the added nodes.
+ *
  *
  * <b>Note:</b> children that doesn't fit in the grid will be hidden.
+ * <p>
+ * to show large number of tiles use {@link JFXVirtualMasonryPane}, it only creates the nodes
+ * of the visible tiles.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -70,10 +72,16 @@ public class JFXMasonryPane extends Pane {
     private boolean performingLayout = false;
     // these variables are computed when layoutChildren is called
     private int[][] matrix;
-    private HashMap<Region, Transition> animationMap = null;
-    private ParallelTransition trans = new ParallelTransition();
+    // pooled transition of each child, reused whenever the child is moved
+    private HashMap<Region, TileTransition> animationMap = null;
     private HashMap<Node, BoundingBox> boundingBoxes = new HashMap<>();
     private boolean dirtyBoxes = false;
+    // skyline layout state, children are placed incrementally while they're only appended
+    private MasonrySkyline skyline;
+    private final List<Region> skylineChildren = new ArrayList<>();
+    private final List<BoundingBox> skylineBoxes = new ArrayList<>();
+    // false if children were removed or reordered since the last skyline layout
+    private boolean skylineAppendOnly = true;
 
     private final ListChangeListener<Node> childrenListener = change -> {
         if (change.next()) {
@@ -84,11 +92,20 @@ public class JFXMasonryPane extends Pane {
             // fixed #1003 JFXMasonryPane nullpointer when init before layout.
             if (animationMap != null) {
                 for (Node removedNode : change.getRemoved()) {
-                    animationMap.remove(removedNode);
+                    final TileTransition transition = animationMap.remove(removedNode);
+                    if (transition != null) {
+                        transition.stop();
+                    }
                 }
             }
         }
-        clearLayout();
+        change.reset();
+        while (change.next()) {
+            if (change.wasRemoved() || change.wasPermutated() || change.getTo() != change.getList().size()) {
+                skylineAppendOnly = false;
+            }
+        }
+        matrix = null;
         requestLayout();
     };
 
@@ -115,33 +132,32 @@ public class JFXMasonryPane extends Pane {
         col = (int) Math.floor((getWidth() + getHSpacing() - snappedLeftInset() - snappedRightInset()) / (getCellWidth() + getHSpacing()));
         col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
 
-        if (matrix != null && col == matrix[0].length) {
-            performingLayout = false;
-            return;
-        }
-        //(int) Math.floor(this.getHeight() / (cellH + 2*vSpacing));
-        row = getLimitRow();
-
-        matrix = new int[row][col];
         double minWidth = -1;
         double minHeight = -1;
 
         List<BoundingBox> newBoxes;
-        List<Region> managedChildren = getManagedChildren();
-
-        // filter Region nodes
-        for (int i = 0; i < managedChildren.size(); i++) {
-            if (!(managedChildren.get(i) instanceof Region)) {
-                managedChildren.remove(i);
-                i--;
+        List<Region> managedChildren;
+
+        if (layoutMode.get() instanceof SkylineLayout) {
+            managedChildren = getManagedRegions();
+            newBoxes = layoutSkyline(managedChildren, col);
+        } else {
+            if (matrix != null && col == matrix[0].length) {
+                performingLayout = false;
+                return;
             }
-        }
+            //(int) Math.floor(this.getHeight() / (cellH + 2*vSpacing));
+            row = getLimitRow();
 
-        // get bounding boxes layout
-        newBoxes = layoutMode.get().fillGrid(matrix, managedChildren,
-            getCellWidth(), getCellHeight(),
-            row, col,
-            getHSpacing(), getVSpacing());
+            matrix = new int[row][col];
+            managedChildren = getManagedRegions();
+
+            // get bounding boxes layout
+            newBoxes = layoutMode.get().fillGrid(matrix, managedChildren,
+                getCellWidth(), getCellHeight(),
+                row, col,
+                getHSpacing(), getVSpacing());
+        }
 
         if (newBoxes == null) {
             performingLayout = false;
@@ -152,6 +168,16 @@ public class JFXMasonryPane extends Pane {
         if (dirtyBoxes) {
             boundingBoxes = new HashMap<>();
         }
+        // children moved beyond the animation budget are snapped into place
+        int animationBudget = getLimitAnimatedTiles() == -1 ? Integer.MAX_VALUE : getLimitAnimatedTiles();
+        if (animationMap != null && animationBudget != Integer.MAX_VALUE) {
+            // pooled transitions still running from the previous layouts count against the limit
+            for (TileTransition transition : animationMap.values()) {
+                if (transition.getStatus() == Status.RUNNING) {
+                    animationBudget--;
+                }
+            }
+        }
 
         for (int i = 0; i < managedChildren.size() && i < newBoxes.size(); i++) {
             final Region child = managedChildren.get(i);
@@ -198,35 +224,33 @@ public class JFXMasonryPane extends Pane {
                             child.setPrefSize(blockWidth, blockHeight);
                             child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
                         }
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 1, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(1);
-                            });
-                        }});
-
-                    } else {
-                        // handle children is being hidden ( cause it can't fit in the pane )
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 0, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(0);
-                            });
-                        }});
+                    }
+                    // children that can't fit in the pane are faded out
+                    final double opacity = boundingBox != null ? 1 : 0;
+                    TileTransition transition = animationMap.get(child);
+                    final boolean running = transition != null && transition.getStatus() == Status.RUNNING;
+                    if (running && transition.isMovingTo(blockX, blockY, opacity)) {
+                        // already moving to its box
+                    } else if (child.getLayoutX() != blockX || child.getLayoutY() != blockY
+                               || child.getOpacity() != opacity) {
+                        // a running transition is already counted, it's only retargeted
+                        if (running || animationBudget > 0) {
+                            if (!running) {
+                                animationBudget--;
+                            }
+                            if (transition == null) {
+                                transition = new TileTransition(child);
+                                animationMap.put(child, transition);
+                            }
+                            transition.animateTo(blockX, blockY, opacity);
+                        } else {
+                            if (transition != null) {
+                                transition.stop();
+                            }
+                            child.setLayoutX(blockX);
+                            child.setLayoutY(blockY);
+                            child.setOpacity(opacity);
+                        }
                     }
                 }
 
@@ -252,15 +276,108 @@ public class JFXMasonryPane extends Pane {
             animationMap = new HashMap<>();
         }
 
-        trans.stop();
-        ParallelTransition newTransition = new ParallelTransition();
-        newTransition.getChildren().addAll(animationMap.values());
-        newTransition.play();
-        trans = newTransition;
         dirtyBoxes = false;
         performingLayout = false;
     }
 
+    /**
+     * moves a child to its box, the same transition is reused for each move of the child
+     */
+    private static final class TileTransition extends CachedTransition {
+        private double fromX, fromY, fromOpacity;
+        private double toX, toY, toOpacity;
+
+        TileTransition(Region child) {
+            super(child, null);
+            setCycleDuration(Duration.seconds(0.320));
+            setInterpolator(Interpolator.LINEAR);
+        }
+
+        boolean isMovingTo(double x, double y, double opacity) {
+            return getStatus() == Status.RUNNING && toX == x && toY == y && toOpacity == opacity;
+        }
+
+        void animateTo(double x, double y, double opacity) {
+            stop();
+            fromX = node.getLayoutX();
+            fromY = node.getLayoutY();
+            fromOpacity = node.getOpacity();
+            toX = x;
+            toY = y;
+            toOpacity = opacity;
+            playFromStart();
+        }
+
+        @Override
+        protected void interpolate(double frac) {
+            node.setLayoutX(fromX + (toX - fromX) * frac);
+            node.setLayoutY(fromY + (toY - fromY) * frac);
+            node.setOpacity(fromOpacity + (toOpacity - fromOpacity) * frac);
+        }
+    }
+
+    private List<Region> getManagedRegions() {
+        List<Region> managedChildren = getManagedChildren();
+        // filter Region nodes
+        for (int i = 0; i < managedChildren.size(); i++) {
+            if (!(managedChildren.get(i) instanceof Region)) {
+                managedChildren.remove(i);
+                i--;
+            }
+        }
+        return managedChildren;
+    }
+
+    /**
+     * places the children using the skyline layout. if the columns didn't change, the children
+     * are placed again from the first one that was removed, moved or resized, otherwise only
+     * the appended children are placed
+     *
+     * @return the boxes of all the children, or null if nothing changed since the last layout
+     */
+    private List<BoundingBox> layoutSkyline(List<Region> children, int col) {
+        if (col <= 0) {
+            return null;
+        }
+        final SkylineLayout layout = (SkylineLayout) layoutMode.get();
+        int placed = skylineChildren.size();
+        if (skyline == null || skyline.getColumns() != col) {
+            placed = 0;
+        } else if (!skylineAppendOnly || placed > children.size()
+                   || placed > 0 && skylineChildren.get(placed - 1) != children.get(placed - 1)) {
+            // children were removed, reordered or unmanaged, keep the unchanged ones
+            int common = 0;
+            final int limit = Math.min(placed, children.size());
+            while (common < limit && skylineChildren.get(common) == children.get(common)) {
+                common++;
+            }
+            placed = common;
+        } else if (placed == children.size()) {
+            // nothing was appended, the layout was requested by a resized child or the pane
+            placed = layout.firstResized(children, skylineBoxes, placed, col,
+                getCellWidth(), getCellHeight(), getHSpacing(), getVSpacing());
+            if (placed == children.size()) {
+                return null;
+            }
+        }
+        skylineAppendOnly = true;
+        if (skyline == null) {
+            skyline = new MasonrySkyline(col);
+        } else if (placed < skylineBoxes.size() || skyline.getColumns() != col) {
+            // rebuild the skyline of the children kept in place
+            skylineChildren.subList(placed, skylineChildren.size()).clear();
+            skylineBoxes.subList(placed, skylineBoxes.size()).clear();
+            skyline.reset(col);
+            for (BoundingBox box : skylineBoxes) {
+                skyline.occupy((int) box.getMinY(), (int) box.getWidth(), box.getMinX() + box.getHeight());
+            }
+        }
+        layout.place(skyline, children, placed, skylineBoxes,
+            getCellWidth(), getCellHeight(), getHSpacing(), getVSpacing());
+        skylineChildren.addAll(children.subList(placed, children.size()));
+        return skylineBoxes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -278,6 +395,7 @@ public class JFXMasonryPane extends Pane {
      */
     public final void clearLayout() {
         matrix = null;
+        skylineChildren.clear();
     }
 
 
@@ -289,7 +407,13 @@ public class JFXMasonryPane extends Pane {
     /**
      * the layout mode of Masonry Pane
      */
-    private ObjectProperty<LayoutMode> layoutMode = new SimpleObjectProperty<>(LayoutMode.MASONRY);
+    private ObjectProperty<LayoutMode> layoutMode = new SimpleObjectProperty<LayoutMode>(LayoutMode.MASONRY) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+            requestLayout();
+        }
+    };
 
     public final ObjectProperty<LayoutMode> layoutModeProperty() {
         return this.layoutMode;
@@ -305,7 +429,7 @@ public class JFXMasonryPane extends Pane {
     /**
      * sets the layout mode
      *
-     * @param layoutMode to be used, either MASONRY or BIN_PACKING
+     * @param layoutMode to be used, either MASONRY, BIN_PACKING or SKYLINE
      */
     public final void setLayoutMode(final LayoutMode layoutMode) {
         this.layoutModeProperty().set(layoutMode);
@@ -498,6 +622,33 @@ public class JFXMasonryPane extends Pane {
     }
 
 
+    /**
+     * limit the number of children animated at the same time when the layout changes
+     */
+    private IntegerProperty limitAnimatedTiles = new SimpleIntegerProperty(100);
+
+    public final IntegerProperty limitAnimatedTilesProperty() {
+        return this.limitAnimatedTiles;
+    }
+
+    /**
+     * @return -1 if no limit on animated children, else returns the maximum number of children
+     * animated at the same time, other children are moved without animation
+     */
+    public final int getLimitAnimatedTiles() {
+        return this.limitAnimatedTilesProperty().get();
+    }
+
+    /**
+     * sets the maximum number of children animated at the same time
+     *
+     * @param limitAnimatedTiles number of animated children, -1 for no limit
+     */
+    public final void setLimitAnimatedTiles(final int limitAnimatedTiles) {
+        this.limitAnimatedTilesProperty().set(limitAnimatedTiles);
+    }
+
+
     /***************************************************************************
      *                                                                         *
      * Layout Modes                                                            *
@@ -507,6 +658,7 @@ public class JFXMasonryPane extends Pane {
     public static abstract class LayoutMode {
         public static final MasonryLayout MASONRY = new MasonryLayout();
         public static final BinPackingLayout BIN_PACKING = new BinPackingLayout();
+        public static final SkylineLayout SKYLINE = new SkylineLayout();
 
         protected abstract List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY);
 
@@ -519,19 +671,10 @@ public class JFXMasonryPane extends Pane {
          * @return
          */
         protected BoundingBox getFreeArea(int[][] matrix, int x, int y, Region block, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            double blockHeight = getBLockHeight(block);
-            double blockWidth = getBLockWidth(block);
-
-            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
-            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
-                rowsNeeded++;
-            }
+            int rowsNeeded = getRowsNeeded(block, cellHeight, gutterY);
             int maxRow = Math.min(x + rowsNeeded, limitRow);
 
-            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
-            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
-                colsNeeded++;
-            }
+            int colsNeeded = getColumnsNeeded(block, cellWidth, gutterX);
             int maxCol = Math.min(y + colsNeeded, limitCol);
 
             int minRow = maxRow;
@@ -557,6 +700,30 @@ public class JFXMasonryPane extends Pane {
             return new BoundingBox(x, y, minCol - y, minRow - x);
         }
 
+        /**
+         * @return the number of grid rows needed to fit the block height
+         */
+        protected int getRowsNeeded(Region block, double cellHeight, double gutterY) {
+            double blockHeight = getBLockHeight(block);
+            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
+            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
+                rowsNeeded++;
+            }
+            return rowsNeeded;
+        }
+
+        /**
+         * @return the number of grid columns needed to fit the block width
+         */
+        protected int getColumnsNeeded(Region block, double cellWidth, double gutterX) {
+            double blockWidth = getBLockWidth(block);
+            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
+            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
+                colsNeeded++;
+            }
+            return colsNeeded;
+        }
+
         protected double getBLockWidth(Region region) {
             if (region.getMinWidth() != -1) {
                 return region.getMinWidth();
@@ -750,4 +917,48 @@ public class JFXMasonryPane extends Pane {
         }
     }
 
+    /***************************************************************************
+     *                                                                         *
+     * Skyline Layout                                                          *
+     *                                                                         *
+     **************************************************************************/
+    private static class SkylineLayout extends LayoutMode {
+        @Override
+        public List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
+            // the matrix is not used, the pane keeps the skyline to place appended children only
+            if (limitCol <= 0) {
+                return null;
+            }
+            List<BoundingBox> boxes = new ArrayList<>(children.size());
+            place(new MasonrySkyline(limitCol), children, 0, boxes, cellWidth, cellHeight, gutterX, gutterY);
+            return boxes;
+        }
+
+        void place(MasonrySkyline skyline, List<Region> children, int from, List<BoundingBox> boxes, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            for (int b = from; b < children.size(); b++) {
+                Region block = children.get(b);
+                // wide blocks are shrunk to the grid instead of being hidden
+                int colsNeeded = Math.min(getColumnsNeeded(block, cellWidth, gutterX), skyline.getColumns());
+                int rowsNeeded = getRowsNeeded(block, cellHeight, gutterY);
+                int col = skyline.place(colsNeeded, rowsNeeded, 0);
+                boxes.add(new BoundingBox(skyline.getLastTop(), col, colsNeeded, rowsNeeded));
+            }
+        }
+
+        /**
+         * @return the index of the first placed child that no longer spans its box, or count if none
+         */
+        int firstResized(List<Region> children, List<BoundingBox> boxes, int count, int columns, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            for (int b = 0; b < count; b++) {
+                Region block = children.get(b);
+                BoundingBox box = boxes.get(b);
+                if (Math.min(getColumnsNeeded(block, cellWidth, gutterX), columns) != (int) box.getWidth()
+                    || getRowsNeeded(block, cellHeight, gutterY) != (int) box.getHeight()) {
+                    return b;
+                }
+            }
+            return count;
+        }
+    }
+
 }
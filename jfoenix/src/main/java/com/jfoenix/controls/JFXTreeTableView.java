@@ -22,12 +22,18 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.datamodels.treetable.GroupAggregator;
+import com.jfoenix.controls.datamodels.treetable.GroupingEngine;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.skins.JFXTreeTableViewSkin;
+import com.jfoenix.utils.JFXDispatcher;
 import com.jfoenix.utils.JFXUtilities;
-import javafx.application.Platform;
+import com.jfoenix.utils.JFoenixExecutors;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -37,19 +43,21 @@ import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
 import javafx.scene.control.TreeTableView;
 import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 /**
@@ -110,25 +118,39 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         });
 
         this.predicate.addListener(observable -> filter(getPredicate()));
-        this.sceneProperty().addListener(observable -> {
-            if (getScene() == null) {
-                threadPool.shutdownNow();
-            } else if (threadPool.isTerminated()) {
-                threadPool = createThreadPool();
+
+        this.rootProperty().addListener((o, oldVal, newVal) -> {
+            if (oldVal instanceof RecursiveTreeItem) {
+                ((RecursiveTreeItem<S>) oldVal).itemsCountProperty().removeListener(itemsCountListener);
+            }
+            if (newVal instanceof RecursiveTreeItem) {
+                ((RecursiveTreeItem<S>) newVal).itemsCountProperty().addListener(itemsCountListener);
             }
         });
-
         this.rootProperty().addListener(observable -> {
             if (getRoot() != null) {
                 setCurrentItemsCount(count(getRoot()));
             }
             if (!internalSetRoot) {
+                if (originalRoot != getRoot()) {
+                    // the replaced root is no longer grouped
+                    if (originalRoot instanceof RecursiveTreeItem) {
+                        ((RecursiveTreeItem<S>) originalRoot).grouped = false;
+                    }
+                    if (groupIndex != null) {
+                        groupIndex.detach();
+                        groupIndex = null;
+                    }
+                }
                 originalRoot = getRoot();
                 reGroup();
             }
         });
 
         // compute the current items count
+        if (getRoot() instanceof RecursiveTreeItem) {
+            ((RecursiveTreeItem<S>) getRoot()).itemsCountProperty().addListener(itemsCountListener);
+        }
         setCurrentItemsCount(count(getRoot()));
     }
 
@@ -201,8 +223,22 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
     // lock is used to force mutual exclusion while group/ungroup operation
     private final Lock lock = new ReentrantLock(true);
 
+    // keeps the group nodes up to date while the ungrouped root changes
+    private TreeTableGroupIndex<S> groupIndex;
+
     BiConsumer<Object, RecursiveTreeObject> groupedRootConsumer = null;
 
+    /**
+     * aggregated values computed for each group while grouping, the results are stored in
+     * {@link RecursiveTreeObject#getGroupAggregates()} of the group objects and kept up to date
+     * as rows are added, removed or updated. Changes to this list are applied on the next grouping.
+     */
+    private final ObservableList<GroupAggregator<S>> groupAggregators = FXCollections.observableArrayList();
+
+    public final ObservableList<GroupAggregator<S>> getGroupAggregators() {
+        return groupAggregators;
+    }
+
     public BiConsumer<Object, RecursiveTreeObject> getGroupedRootConsumer() {
         return groupedRootConsumer;
     }
@@ -232,11 +268,16 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
                         continue;
                     }
                     toBeAdded.add(treeTableColumn);
-                    groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+                    if (getGroupingEngine() == null) {
+                        groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+                    }
                 }
                 groupOrder.addAll(toBeAdded);
+                if (getGroupingEngine() != null) {
+                    groups = (Map) getGroupingEngine().group(((RecursiveTreeItem<S>) originalRoot).filteredItems, groupOrder);
+                }
                 // update table ui
-                buildGroupedRoot(groups, null, 0);
+                buildGroupedRoot(groups);
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -247,12 +288,16 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
 
     private void refreshGroups(List<TreeTableColumn<S, ?>> groupColumns) {
         groups = new HashMap<>();
-        for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
-            groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+        if (getGroupingEngine() != null) {
+            groups = (Map) getGroupingEngine().group(((RecursiveTreeItem<S>) originalRoot).filteredItems, groupColumns);
+        } else {
+            for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
+                groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+            }
         }
         groupOrder.setAll(groupColumns);
         // update table ui
-        buildGroupedRoot(groups, null, 0);
+        buildGroupedRoot(groups);
     }
 
     /**
@@ -268,8 +313,18 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
                 JFXUtilities.runInFXAndWait(() -> {
                     ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
                     sortOrder.addAll(getSortOrder());
+                    if (groupIndex != null) {
+                        groupIndex.detach();
+                        groupIndex = null;
+                    }
                     // needs to reset the children in order to update the parent
-                    List children = Arrays.asList(originalRoot.getChildren().toArray());
+                    List children;
+                    if (originalRoot instanceof RecursiveTreeItem) {
+                        ((RecursiveTreeItem<S>) originalRoot).grouped = false;
+                        children = new ArrayList<>(((RecursiveTreeItem<S>) originalRoot).filteredItems);
+                    } else {
+                        children = Arrays.asList(originalRoot.getChildren().toArray());
+                    }
                     originalRoot.getChildren().clear();
                     originalRoot.getChildren().setAll(children);
                     // reset the original root
@@ -313,6 +368,24 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         return parentGroup;
     }
 
+    /**
+     * engine used to group the items, if not set the items are grouped column by column
+     * on the calling thread using {@link #groupByFunction(List, TreeTableColumn)}
+     */
+    private final ObjectProperty<GroupingEngine<S>> groupingEngine = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<GroupingEngine<S>> groupingEngineProperty() {
+        return this.groupingEngine;
+    }
+
+    public final GroupingEngine<S> getGroupingEngine() {
+        return this.groupingEngineProperty().get();
+    }
+
+    public final void setGroupingEngine(final GroupingEngine<S> groupingEngine) {
+        this.groupingEngineProperty().set(groupingEngine);
+    }
+
     protected Map groupByFunction(List<TreeItem<S>> items, TreeTableColumn<S, ?> column) {
         Map<Object, List<TreeItem<S>>> map = new HashMap<>();
         for (TreeItem<S> child : items) {
@@ -327,93 +400,152 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
      * this method is used to update tree items and set the new root
      * after grouping the data model
      */
-    private void buildGroupedRoot(Map<?, ?> groupedItems, RecursiveTreeItem parent, int groupIndex) {
-        boolean setRoot = false;
-        if (parent == null) {
-            parent = new RecursiveTreeItem<>(new RecursiveTreeObject(), RecursiveTreeObject::getChildren);
-            setRoot = true;
+    private void buildGroupedRoot(Map<?, ?> groupedItems) {
+        if (groupIndex != null) {
+            groupIndex.detach();
         }
+        final RecursiveTreeItem<S> ungroupedRoot = (RecursiveTreeItem<S>) originalRoot;
+        groupIndex = new TreeTableGroupIndex<>(this, ungroupedRoot, groupOrder, groupAggregators);
+        final RecursiveTreeItem<S> newRoot = groupIndex.build(groupedItems);
+        // keep the group nodes in sync with the ungrouped root from now on
+        groupIndex.attach();
+        ungroupedRoot.grouped = true;
 
-        for (Map.Entry<?, ?> entry : groupedItems.entrySet()) {
-            Object key = entry.getKey();
-            RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
-            groupItem.setGroupedValue(key);
-            groupItem.setGroupedColumn(groupOrder.get(groupIndex));
+        // update ui
+        JFXUtilities.runInFX(() -> {
+            ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
+            sortOrder.addAll(getSortOrder());
+            internalSetRoot = true;
+            setRoot(newRoot);
+            internalSetRoot = false;
+            getSortOrder().addAll(sortOrder);
+            getSelectionModel().select(0);
+        });
+    }
 
-            RecursiveTreeItem node = new RecursiveTreeItem<>(groupItem, RecursiveTreeObject::getChildren);
-            // TODO: need to be removed once the selection issue is fixed
-            node.expandedProperty().addListener((o, oldVal, newVal) -> {
-                getSelectionModel().clearSelection();
-            });
+    /**
+     * generation of the latest filter request, passes of older generations are dropped
+     */
+    private final AtomicLong filterGeneration = new AtomicLong();
 
-            parent.originalItems.add(node);
-            parent.getChildren().add(node);
+    private ScheduledFuture<?> task;
 
-            Object children = entry.getValue();
-            if (children instanceof List) {
-                node.originalItems.addAll((List) children);
-                node.getChildren().addAll((List) children);
-            } else if (children instanceof Map) {
-                buildGroupedRoot((Map) children, node, groupIndex + 1);
-            }
-            groupItem.setChildren(node.getChildren());
-            if (groupedRootConsumer != null) {
-                groupedRootConsumer.accept(key, groupItem);
-            }
-        }
+    /**
+     * the last filter pass, each pass starts once the previous one is done.
+     * only accessed from the scheduler thread
+     */
+    private CompletableFuture<Void> filterPass = CompletableFuture.completedFuture(null);
 
-        // update ui
-        if (setRoot) {
-            final RecursiveTreeItem<S> newParent = parent;
-            JFXUtilities.runInFX(() -> {
-                ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
-                sortOrder.addAll(getSortOrder());
-                internalSetRoot = true;
-                setRoot(newParent);
-                internalSetRoot = false;
-                getSortOrder().addAll(sortOrder);
-                getSelectionModel().select(0);
-            });
+    private final Object filterUpdateKey = new Object();
+
+    /**
+     * this method will filter the tree table
+     */
+    private void filter(Predicate<TreeItem<S>> predicate) {
+        final long generation = filterGeneration.incrementAndGet();
+        filtering.set(true);
+        if (task != null) {
+            task.cancel(false);
         }
+        final Duration delay = getFilterDelay();
+        task = JFoenixExecutors.schedule(() -> queueFilterPass(generation),
+            delay == null ? 0 : (long) delay.toMillis(), TimeUnit.MILLISECONDS);
     }
 
-    private ScheduledExecutorService threadPool = createThreadPool();
-
-    private ScheduledExecutorService createThreadPool() {
-        return Executors.newScheduledThreadPool(1,
-            runnable -> {
-                Thread thread = new Thread(runnable);
-                thread.setName("JFXTreeTableView Filter Thread");
-                thread.setDaemon(true);
-                Runtime.getRuntime().addShutdownHook(thread);
-                return thread;
-            });
+    private void queueFilterPass(long generation) {
+        // a cancelled pass may still be running, passes never modify the tree concurrently
+        filterPass = filterPass.handle((ignored, exception) -> null)
+            .thenRunAsync(() -> {
+                try {
+                    filter(generation);
+                } finally {
+                    // queued after the count update of the pass
+                    JFXDispatcher.dispatch(() -> {
+                        if (generation == filterGeneration.get()) {
+                            filtering.set(false);
+                        }
+                    });
+                }
+            }, JFoenixExecutors.executor());
     }
 
-    private final Runnable filterRunnable = () -> {
+    private void filter(long generation) {
         if (originalRoot == null) {
             originalRoot = getRoot();
         }
-        // filter the ungrouped root
-        ((RecursiveTreeItem) originalRoot).setPredicate(getPredicate());
-        // regroup the data
-        reGroup();
-        Platform.runLater(() -> {
+        if (!(originalRoot instanceof RecursiveTreeItem)) {
+            return;
+        }
+        final RecursiveTreeItem<S> root = (RecursiveTreeItem<S>) originalRoot;
+        final BooleanSupplier cancelled = () -> generation != filterGeneration.get();
+        // lazy tree items are created on the FX thread, the pass below only reads them.
+        // the shown parents of the children of a grouped root are group items, so their
+        // new lazy children don't reach the root
+        if (root.grouped || !root.isSubtreeMaterialized()) {
+            JFXUtilities.runInFXAndWait(() -> {
+                if (!cancelled.getAsBoolean()) {
+                    root.materializeDescendants();
+                }
+            });
+        }
+        if (cancelled.getAsBoolean()) {
+            return;
+        }
+        // compute the visible items of the ungrouped root outside the FX thread
+        final RecursiveTreeItem.FilterResult<S> result = root.computeFilter(getPredicate(), cancelled);
+        if (result == null) {
+            return;
+        }
+        // apply the whole result at once, unless a newer filter request was made meanwhile
+        JFXUtilities.runInFXAndWait(() -> {
+            if (!cancelled.getAsBoolean()) {
+                root.applyFilter(result);
+            }
+        });
+        if (cancelled.getAsBoolean()) {
+            return;
+        }
+        // the group index follows the filtered items, only regroup if it can't be used
+        if (groupIndex == null || !groupIndex.isValid(originalRoot, groupOrder)) {
+            reGroup();
+        }
+        // consecutive passes only update the selection and the count once
+        JFXDispatcher.dispatch(filterUpdateKey, () -> {
             getSelectionModel().select(0);
             setCurrentItemsCount(count(getRoot()));
         });
-    };
+    }
 
-    private ScheduledFuture<?> task;
+    /**
+     * delay used to debounce filter requests, a new request made within this delay
+     * replaces the pending one
+     */
+    private final ObjectProperty<Duration> filterDelay = new SimpleObjectProperty<>(Duration.millis(200));
+
+    public final ObjectProperty<Duration> filterDelayProperty() {
+        return this.filterDelay;
+    }
+
+    public final Duration getFilterDelay() {
+        return this.filterDelayProperty().get();
+    }
+
+    public final void setFilterDelay(final Duration filterDelay) {
+        this.filterDelayProperty().set(filterDelay);
+    }
 
     /**
-     * this method will filter the tree table
+     * true while a filter request is pending or its pass is running, it's set
+     * back to false once the result of the latest request is shown and counted
      */
-    private void filter(Predicate<TreeItem<S>> predicate) {
-        if (task != null) {
-            task.cancel(false);
-        }
-        task = threadPool.schedule(filterRunnable, 200, TimeUnit.MILLISECONDS);
+    private final ReadOnlyBooleanWrapper filtering = new ReadOnlyBooleanWrapper(this, "filtering", false);
+
+    public final ReadOnlyBooleanProperty filteringProperty() {
+        return filtering.getReadOnlyProperty();
+    }
+
+    public final boolean isFiltering() {
+        return filtering.get();
     }
 
     public void reGroup() {
@@ -464,17 +596,29 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         this.currentItemsCountProperty().set(currentItemsCount);
     }
 
+    /**
+     * keeps the current items count in sync with the count maintained by the root
+     */
+    private final InvalidationListener itemsCountListener = observable -> {
+        if (getRoot() != null) {
+            setCurrentItemsCount(count(getRoot()));
+        }
+    };
+
     private int count(TreeItem<?> node) {
         if (node == null) {
             return 0;
         }
-
         int count = 1;
         if (node.getValue() == null || (node.getValue() != null && node.getValue()
             .getClass()
             .equals(RecursiveTreeObject.class))) {
             count = 0;
         }
+        // recursive tree items maintain the count of their descendants
+        if (node instanceof RecursiveTreeItem) {
+            return count + ((RecursiveTreeItem<?>) node).getItemsCount();
+        }
         for (TreeItem<?> child : node.getChildren()) {
             count += count(child);
         }
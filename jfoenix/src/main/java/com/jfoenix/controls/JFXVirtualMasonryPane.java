@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Orientation;
+import javafx.scene.Group;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Callback;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A JFXVirtualMasonryPane is the virtualized version of {@link JFXMasonryPane} in masonry mode,
+ * it's meant to show large number of tiles (e.g. photo walls).
+ * <p>
+ * Tiles are placed from their size returned by the {@link #tileSizeFactoryProperty() tile size factory},
+ * without creating any node. Only the tiles intersecting the viewport (extended by the
+ * {@link #bufferSizeProperty() buffer size}) are shown, using cells created by the
+ * {@link #cellFactoryProperty() cell factory}. Cells are reused for other items while scrolling,
+ * the same way {@link javafx.scene.control.ListView} does.
+ * <p>
+ * Tiles span as many grid columns as needed to fit their width, and are stacked on the lowest
+ * columns available. Appending items only places the new items.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class JFXVirtualMasonryPane<T> extends Region {
+
+    private static final String DEFAULT_STYLE_CLASS = "jfx-virtual-masonry-pane";
+
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+
+    // placement of the tiles, indexed by item index
+    private final MasonrySkyline skyline = new MasonrySkyline(1);
+    private double[] tileX = new double[0];
+    private double[] tileY = new double[0];
+    private double[] tileWidth = new double[0];
+    private double[] tileHeight = new double[0];
+    // max bottom of the tiles up to an index, min top of the tiles from an index.
+    // both are monotonic, so the tiles in the viewport are found by binary search
+    private double[] maxBottom = new double[0];
+    private double[] minTop = new double[0];
+    private int placedCount = 0;
+    private boolean placementDirty = true;
+
+    private final Map<Integer, JFXMasonryCell<T>> cells = new HashMap<>();
+    private final ArrayDeque<JFXMasonryCell<T>> pile = new ArrayDeque<>();
+    private boolean cellsDirty = false;
+
+    private final Group sheet = new Group();
+    private final ScrollBar scrollBar = new ScrollBar();
+    private final Rectangle clip = new Rectangle();
+
+    /**
+     * Constructs a new JFXVirtualMasonryPane
+     */
+    public JFXVirtualMasonryPane() {
+        getStyleClass().add(DEFAULT_STYLE_CLASS);
+        sheet.setAutoSizeChildren(false);
+        sheet.setManaged(false);
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setVisible(false);
+        scrollBar.valueProperty().addListener(observable -> requestLayout());
+        getChildren().setAll(sheet, scrollBar);
+        setClip(clip);
+
+        items.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                // appended items are placed incrementally, other changes move the existing tiles
+                if (!change.wasAdded() || change.wasRemoved() || change.getFrom() < placedCount) {
+                    placementDirty = true;
+                }
+            }
+            requestLayout();
+        });
+        addEventHandler(ScrollEvent.SCROLL, event -> {
+            if (scrollBar.isVisible()) {
+                scrollBar.setValue(clamp(scrollBar.getValue() - event.getDeltaY(), scrollBar.getMax()));
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * @return the items shown in this pane
+     */
+    public final ObservableList<T> getItems() {
+        return items;
+    }
+
+    /**
+     * scrolls the pane to show the tile of the specified index at the top
+     *
+     * @param index of the item
+     */
+    public void scrollTo(int index) {
+        layout();
+        if (index >= 0 && index < placedCount) {
+            scrollBar.setValue(clamp(tileY[index], scrollBar.getMax()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + getCellWidth() + snappedRightInset() + 2 * getHSpacing();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double computePrefHeight(double width) {
+        return snappedTopInset() + 400 + snappedBottomInset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        final double left = snappedLeftInset();
+        final double top = snappedTopInset();
+        final double viewportWidth = getWidth() - left - snappedRightInset();
+        final double viewportHeight = getHeight() - top - snappedBottomInset();
+        clip.setWidth(getWidth());
+        clip.setHeight(getHeight());
+
+        // assume the scroll bar visibility didn't change, place again otherwise
+        final double scrollBarWidth = snapSize(scrollBar.prefWidth(-1));
+        boolean scrollable = scrollBar.isVisible();
+        updatePlacement(scrollable ? viewportWidth - scrollBarWidth : viewportWidth);
+        if (scrollable != getContentHeight() > viewportHeight) {
+            scrollable = !scrollable;
+            updatePlacement(scrollable ? viewportWidth - scrollBarWidth : viewportWidth);
+        }
+        final double barWidth = scrollable ? scrollBarWidth : 0;
+        final double contentWidth = viewportWidth - barWidth;
+
+        scrollBar.setVisible(scrollable);
+        scrollBar.setMin(0);
+        scrollBar.setMax(Math.max(0, getContentHeight() - viewportHeight));
+        scrollBar.setVisibleAmount(viewportHeight);
+        scrollBar.setBlockIncrement(viewportHeight);
+        scrollBar.setUnitIncrement(getCellHeight() + getVSpacing());
+        if (scrollBar.getValue() > scrollBar.getMax()) {
+            scrollBar.setValue(scrollBar.getMax());
+        }
+        scrollBar.resizeRelocate(left + contentWidth, top, barWidth, viewportHeight);
+
+        final double offset = scrollable ? scrollBar.getValue() : 0;
+        layoutCells(offset - getBufferSize(), offset + viewportHeight + getBufferSize(), left, top - offset);
+    }
+
+    /**
+     * @return the height of all the placed tiles
+     */
+    private double getContentHeight() {
+        return placedCount == 0 ? 0 : Math.max(0, maxBottom[placedCount - 1]);
+    }
+
+    private int computeColumns(double width) {
+        int columns = (int) Math.floor((width + getHSpacing()) / (getCellWidth() + getHSpacing()));
+        if (getLimitColumn() != -1 && columns > getLimitColumn()) {
+            columns = getLimitColumn();
+        }
+        return Math.max(1, columns);
+    }
+
+    private void updatePlacement(double width) {
+        final int columns = computeColumns(width);
+        if (placementDirty || columns != skyline.getColumns()) {
+            skyline.reset(columns);
+            placedCount = 0;
+            placementDirty = false;
+            cellsDirty = true;
+        }
+        if (placedCount < items.size()) {
+            place(placedCount, items.size());
+        }
+    }
+
+    /**
+     * places the tiles of the items in the specified range on the skyline
+     */
+    private void place(int from, int to) {
+        ensureCapacity(to);
+        final double cellWidth = getCellWidth();
+        final double hSpacing = getHSpacing();
+        final double vSpacing = getVSpacing();
+        final Callback<T, Dimension2D> sizeFactory = getTileSizeFactory();
+        for (int i = from; i < to; i++) {
+            final Dimension2D size = sizeFactory == null ? null : sizeFactory.call(items.get(i));
+            final double width = size == null ? cellWidth : size.getWidth();
+            final double height = size == null ? getCellHeight() : size.getHeight();
+            int span = (int) Math.ceil((width + hSpacing) / (cellWidth + hSpacing));
+            span = Math.max(1, Math.min(span, skyline.getColumns()));
+            final int column = skyline.place(span, height, vSpacing);
+            tileX[i] = column * (cellWidth + hSpacing);
+            tileY[i] = skyline.getLastTop();
+            tileWidth[i] = span * cellWidth + (span - 1) * hSpacing;
+            tileHeight[i] = height;
+            maxBottom[i] = Math.max(i == 0 ? 0 : maxBottom[i - 1], tileY[i] + height);
+        }
+        minTop[to - 1] = tileY[to - 1];
+        for (int i = to - 2; i >= 0; i--) {
+            final double top = Math.min(tileY[i], minTop[i + 1]);
+            if (i < from && top == minTop[i]) {
+                // the tiles before were already up to date
+                break;
+            }
+            minTop[i] = top;
+        }
+        placedCount = to;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (tileX.length >= capacity) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, tileX.length + (tileX.length >> 1));
+        tileX = Arrays.copyOf(tileX, newCapacity);
+        tileY = Arrays.copyOf(tileY, newCapacity);
+        tileWidth = Arrays.copyOf(tileWidth, newCapacity);
+        tileHeight = Arrays.copyOf(tileHeight, newCapacity);
+        maxBottom = Arrays.copyOf(maxBottom, newCapacity);
+        minTop = Arrays.copyOf(minTop, newCapacity);
+    }
+
+    /**
+     * shows the tiles intersecting the specified vertical range, reusing the cells
+     * of the tiles that are no longer visible
+     */
+    private void layoutCells(double rangeTop, double rangeBottom, double x, double y) {
+        // first tile that may end after the range top
+        int low = 0;
+        int high = placedCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (maxBottom[mid] <= rangeTop) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        final int first = low;
+        // tiles after the end all start after the range bottom
+        high = placedCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (minTop[mid] < rangeBottom) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        final int end = low;
+
+        for (Iterator<Map.Entry<Integer, JFXMasonryCell<T>>> iterator = cells.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<Integer, JFXMasonryCell<T>> entry = iterator.next();
+            final int index = entry.getKey();
+            if (cellsDirty || index < first || index >= end || !intersects(index, rangeTop, rangeBottom)) {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+        cellsDirty = false;
+
+        for (int i = first; i < end; i++) {
+            if (!intersects(i, rangeTop, rangeBottom)) {
+                continue;
+            }
+            JFXMasonryCell<T> cell = cells.get(i);
+            if (cell == null) {
+                cell = obtainCell();
+                cell.updateIndex(i);
+                cells.put(i, cell);
+            }
+            cell.resizeRelocate(snapPosition(x + tileX[i]), snapPosition(y + tileY[i]),
+                snapSize(tileWidth[i]), snapSize(tileHeight[i]));
+        }
+    }
+
+    private boolean intersects(int index, double rangeTop, double rangeBottom) {
+        return tileY[index] < rangeBottom && tileY[index] + tileHeight[index] > rangeTop;
+    }
+
+    private JFXMasonryCell<T> obtainCell() {
+        JFXMasonryCell<T> cell = pile.poll();
+        if (cell == null) {
+            final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> factory = getCellFactory();
+            cell = factory == null ? new JFXMasonryCell<>() : factory.call(this);
+            cell.updateMasonryPane(this);
+            sheet.getChildren().add(cell);
+        }
+        cell.setVisible(true);
+        return cell;
+    }
+
+    private void release(JFXMasonryCell<T> cell) {
+        cell.updateIndex(-1);
+        cell.setVisible(false);
+        pile.add(cell);
+    }
+
+    private void disposeCells() {
+        sheet.getChildren().clear();
+        cells.clear();
+        pile.clear();
+        requestLayout();
+    }
+
+    private void invalidatePlacement() {
+        placementDirty = true;
+        requestLayout();
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * the factory used to create the cells showing the tiles
+     */
+    private ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactory = new SimpleObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>>() {
+        @Override
+        protected void invalidated() {
+            disposeCells();
+        }
+    };
+
+    public final ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactoryProperty() {
+        return this.cellFactory;
+    }
+
+    public final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> getCellFactory() {
+        return this.cellFactoryProperty().get();
+    }
+
+    public final void setCellFactory(final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> cellFactory) {
+        this.cellFactoryProperty().set(cellFactory);
+    }
+
+
+    /**
+     * returns the size of the tile of an item, tiles are placed without creating their cells.
+     * if not set or if it returns null, tiles have the size of one grid cell
+     */
+    private ObjectProperty<Callback<T, Dimension2D>> tileSizeFactory = new SimpleObjectProperty<Callback<T, Dimension2D>>() {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final ObjectProperty<Callback<T, Dimension2D>> tileSizeFactoryProperty() {
+        return this.tileSizeFactory;
+    }
+
+    public final Callback<T, Dimension2D> getTileSizeFactory() {
+        return this.tileSizeFactoryProperty().get();
+    }
+
+    public final void setTileSizeFactory(final Callback<T, Dimension2D> tileSizeFactory) {
+        this.tileSizeFactoryProperty().set(tileSizeFactory);
+    }
+
+
+    /**
+     * the extra distance above and below the viewport where tiles are shown,
+     * to avoid creating cells while scrolling slowly
+     */
+    private DoubleProperty bufferSize = new SimpleDoubleProperty(100) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    public final DoubleProperty bufferSizeProperty() {
+        return this.bufferSize;
+    }
+
+    public final double getBufferSize() {
+        return this.bufferSizeProperty().get();
+    }
+
+    public final void setBufferSize(final double bufferSize) {
+        this.bufferSizeProperty().set(bufferSize);
+    }
+
+
+    /**
+     * the cell width of masonry grid
+     */
+    private DoubleProperty cellWidth = new SimpleDoubleProperty(70) {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final DoubleProperty cellWidthProperty() {
+        return this.cellWidth;
+    }
+
+    /**
+     * @return the cell width of the masonry pane grid
+     */
+    public final double getCellWidth() {
+        return this.cellWidthProperty().get();
+    }
+
+    /**
+     * sets the cell width of the masonry pane grid
+     *
+     * @param cellWidth of the grid
+     */
+    public final void setCellWidth(final double cellWidth) {
+        this.cellWidthProperty().set(cellWidth);
+    }
+
+
+    /**
+     * the default tile height, used if the tile size factory is not set
+     */
+    private DoubleProperty cellHeight = new SimpleDoubleProperty(70) {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final DoubleProperty cellHeightProperty() {
+        return this.cellHeight;
+    }
+
+    /**
+     * @return the default tile height
+     */
+    public final double getCellHeight() {
+        return this.cellHeightProperty().get();
+    }
+
+    /**
+     * sets the default tile height
+     *
+     * @param cellHeight of the tiles
+     */
+    public final void setCellHeight(final double cellHeight) {
+        this.cellHeightProperty().set(cellHeight);
+    }
+
+
+    /**
+     * horizontal spacing between tiles
+     */
+    private DoubleProperty hSpacing = new SimpleDoubleProperty(5) {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final DoubleProperty hSpacingProperty() {
+        return this.hSpacing;
+    }
+
+    /**
+     * @return the horizontal spacing between tiles
+     */
+    public final double getHSpacing() {
+        return this.hSpacingProperty().get();
+    }
+
+    /**
+     * sets the horizontal spacing between tiles
+     *
+     * @param spacing horizontal spacing
+     */
+    public final void setHSpacing(final double spacing) {
+        this.hSpacingProperty().set(spacing);
+    }
+
+
+    /**
+     * vertical spacing between tiles
+     */
+    private DoubleProperty vSpacing = new SimpleDoubleProperty(5) {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final DoubleProperty vSpacingProperty() {
+        return this.vSpacing;
+    }
+
+    /**
+     * @return the vertical spacing between tiles
+     */
+    public final double getVSpacing() {
+        return this.vSpacingProperty().get();
+    }
+
+    /**
+     * sets the vertical spacing between tiles
+     *
+     * @param spacing vertical spacing
+     */
+    public final void setVSpacing(final double spacing) {
+        this.vSpacingProperty().set(spacing);
+    }
+
+
+    /**
+     * limit the grid columns to certain number
+     */
+    private IntegerProperty limitColumn = new SimpleIntegerProperty(-1) {
+        @Override
+        protected void invalidated() {
+            invalidatePlacement();
+        }
+    };
+
+    public final IntegerProperty limitColumnProperty() {
+        return this.limitColumn;
+    }
+
+    /**
+     * @return -1 if no limit on grid columns, else returns the maximum number of columns to be used in the grid
+     */
+    public final int getLimitColumn() {
+        return this.limitColumnProperty().get();
+    }
+
+    /**
+     * sets the column limit to be used in the grid
+     *
+     * @param limitColumn number of columns to be used in the grid
+     */
+    public final void setLimitColumn(final int limitColumn) {
+        this.limitColumnProperty().set(limitColumn);
+    }
+}
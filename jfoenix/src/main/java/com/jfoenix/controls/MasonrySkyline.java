@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import java.util.Arrays;
+
+/**
+ * skyline used to pack masonry tiles: the height of every column is kept,
+ * a tile is placed on the lowest run of columns it spans.
+ * <p>
+ * placing a tile costs O(columns * span) and doesn't depend on the number
+ * of tiles already placed, so tiles can be appended one at a time.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class MasonrySkyline {
+
+    private double[] heights;
+    private double lastTop;
+
+    MasonrySkyline(int columns) {
+        heights = new double[Math.max(1, columns)];
+    }
+
+    int getColumns() {
+        return heights.length;
+    }
+
+    /**
+     * clears all the placed tiles, using the specified number of columns
+     */
+    void reset(int columns) {
+        columns = Math.max(1, columns);
+        if (heights.length != columns) {
+            heights = new double[columns];
+        } else {
+            Arrays.fill(heights, 0);
+        }
+    }
+
+    /**
+     * places a tile on the lowest run of columns, the leftmost one if several runs
+     * have the same height
+     *
+     * @param span   number of columns spanned by the tile, clamped to the columns count
+     * @param height of the tile
+     * @param gap    space left below the tile
+     * @return the first column of the tile, its top is returned by {@link #getLastTop()}
+     */
+    int place(int span, double height, double gap) {
+        span = Math.max(1, Math.min(span, heights.length));
+        int bestColumn = 0;
+        double bestTop = Double.MAX_VALUE;
+        for (int column = 0; column + span <= heights.length; column++) {
+            final double top = getTop(column, span);
+            if (top < bestTop) {
+                bestTop = top;
+                bestColumn = column;
+            }
+        }
+        final double bottom = bestTop + height + gap;
+        for (int column = bestColumn; column < bestColumn + span; column++) {
+            heights[column] = bottom;
+        }
+        lastTop = bestTop;
+        return bestColumn;
+    }
+
+    /**
+     * marks the specified columns as used up to the specified bottom, used to restore the
+     * skyline of tiles placed before
+     *
+     * @param column first column of the tile
+     * @param span   number of columns spanned by the tile
+     * @param bottom of the tile
+     */
+    void occupy(int column, int span, double bottom) {
+        for (int i = column; i < Math.min(column + span, heights.length); i++) {
+            if (heights[i] < bottom) {
+                heights[i] = bottom;
+            }
+        }
+    }
+
+    /**
+     * @return the top of the last placed tile
+     */
+    double getLastTop() {
+        return lastTop;
+    }
+
+    /**
+     * @return the top a tile would have if placed at the specified columns
+     */
+    double getTop(int column, int span) {
+        double top = 0;
+        for (int i = column; i < column + span; i++) {
+            if (heights[i] > top) {
+                top = heights[i];
+            }
+        }
+        return top;
+    }
+
+    /**
+     * @return the height of the highest column
+     */
+    double getHeight() {
+        double height = 0;
+        for (double columnHeight : heights) {
+            if (columnHeight > height) {
+                height = columnHeight;
+            }
+        }
+        return height;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * PrefixSuggestionProvider is a {@link SuggestionProvider} that matches the query against
+ * the beginning of the suggestion keys, or the beginning of any word of the keys.
+ * <p>
+ * the word suffixes of the keys are sorted once, so a query only visits the matching
+ * suggestions, from which the best {@code limit} ones are kept. Suggestions are ranked
+ * by the specified comparator, then by key length, then by insertion order.
+ * <p>
+ * the best suggestions of the queries of up to {@value #SHORT_PREFIX_LENGTH} characters,
+ * which match most of the suggestions, are computed with the index for limits up to
+ * {@value #SHORT_PREFIX_SUGGESTIONS}. Longer queries, or greater limits, visit all the
+ * matching suggestions: a query matching a word of every key is linear in the number of
+ * suggestions.
+ * <pre>{@code
+ * popup.setSuggestionProvider(new PrefixSuggestionProvider<>(addresses));
+ * textField.textProperty().addListener(observable -> popup.suggest(textField.getText()));
+ * }</pre>
+ *
+ * @param <T> type of the suggestions
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class PrefixSuggestionProvider<T> implements SuggestionProvider<T> {
+
+    private static final int CANCEL_CHECK_INTERVAL = 4096;
+
+    /**
+     * queries up to this length use the suggestions computed with the index
+     */
+    public static final int SHORT_PREFIX_LENGTH = 2;
+
+    /**
+     * number of suggestions computed with the index for each short query
+     */
+    public static final int SHORT_PREFIX_SUGGESTIONS = 32;
+
+    private final Function<? super T, String> keyExtractor;
+    private final Comparator<? super T> ranking;
+    private volatile Index index;
+
+    /**
+     * creates a provider using the string value of the suggestions as keys
+     *
+     * @param suggestions to be indexed
+     */
+    public PrefixSuggestionProvider(Collection<? extends T> suggestions) {
+        this(suggestions, String::valueOf, null);
+    }
+
+    /**
+     * @param suggestions  to be indexed
+     * @param keyExtractor returns the text matched against the queries
+     * @param ranking      orders the suggestions from the best one, can be null
+     */
+    public PrefixSuggestionProvider(Collection<? extends T> suggestions,
+                                    Function<? super T, String> keyExtractor,
+                                    Comparator<? super T> ranking) {
+        this.keyExtractor = keyExtractor;
+        this.ranking = ranking;
+        setSuggestions(suggestions);
+    }
+
+    /**
+     * rebuilds the index for the specified suggestions, queries that are being
+     * computed keep using the previous index.
+     * <b>Note:</b> it can be called outside the FX thread.
+     *
+     * @param suggestions to be indexed
+     */
+    public void setSuggestions(Collection<? extends T> suggestions) {
+        index = new Index(suggestions.toArray(), keyExtractor, ranking);
+    }
+
+    /**
+     * @return the number of indexed suggestions
+     */
+    public int size() {
+        return index.items.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> suggest(String query, int limit, BooleanSupplier cancelled) {
+        final Index index = this.index;
+        final String prefix = normalize(query);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        int[] best;
+        if (prefix.length() <= SHORT_PREFIX_LENGTH && limit <= SHORT_PREFIX_SUGGESTIONS) {
+            best = index.shortPrefixes.get(prefix);
+            if (best == null) {
+                return Collections.emptyList();
+            }
+        } else {
+            best = index.best(index.search(prefix, false), index.search(prefix, true), limit, cancelled);
+            if (best == null) {
+                return null;
+            }
+        }
+
+        final int count = Math.min(limit, best.length);
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add((T) index.items[best[i]]);
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return text.substring(start).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isWordStart(String key, int offset) {
+        return offset == 0 || !Character.isLetterOrDigit(key.charAt(offset - 1))
+                              && Character.isLetterOrDigit(key.charAt(offset));
+    }
+
+    /**
+     * immutable index of the word suffixes of the suggestion keys
+     */
+    private static final class Index {
+        private final Object[] items;
+        private final String[] keys;
+        private final Comparator<Object> ranking;
+        // sorted word suffixes, defined by their suggestion and offset in its key
+        private final int[] entryItems;
+        private final int[] entryOffsets;
+        // best suggestions of the short prefixes
+        private final Map<String, int[]> shortPrefixes = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        <T> Index(Object[] items, Function<? super T, String> keyExtractor, Comparator<? super T> ranking) {
+            this.items = items;
+            this.ranking = (Comparator<Object>) ranking;
+            this.keys = new String[items.length];
+            int[] suffixItems = new int[items.length];
+            int[] suffixOffsets = new int[items.length];
+            int count = 0;
+            for (int i = 0; i < items.length; i++) {
+                final String key = keyExtractor.apply((T) items[i]);
+                keys[i] = key == null ? "" : normalize(key);
+                for (int offset = 0; offset == 0 || offset < keys[i].length(); offset++) {
+                    if (isWordStart(keys[i], offset)) {
+                        if (count == suffixItems.length) {
+                            suffixItems = Arrays.copyOf(suffixItems, count * 2 + 16);
+                            suffixOffsets = Arrays.copyOf(suffixOffsets, count * 2 + 16);
+                        }
+                        suffixItems[count] = i;
+                        suffixOffsets[count] = offset;
+                        count++;
+                    }
+                }
+            }
+
+            final Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            final int[] unsortedItems = suffixItems;
+            final int[] unsortedOffsets = suffixOffsets;
+            Arrays.sort(order, (first, second) -> compareSuffixes(
+                keys[unsortedItems[first]], unsortedOffsets[first],
+                keys[unsortedItems[second]], unsortedOffsets[second]));
+
+            entryItems = new int[count];
+            entryOffsets = new int[count];
+            for (int i = 0; i < count; i++) {
+                entryItems[i] = unsortedItems[order[i]];
+                entryOffsets[i] = unsortedOffsets[order[i]];
+            }
+
+            for (int length = 0; length <= SHORT_PREFIX_LENGTH; length++) {
+                for (int from = 0; from < count; ) {
+                    final String key = keys[entryItems[from]];
+                    final int offset = entryOffsets[from];
+                    if (key.length() - offset < length) {
+                        from++;
+                        continue;
+                    }
+                    final String prefix = key.substring(offset, offset + length);
+                    final int to = search(prefix, true);
+                    shortPrefixes.put(prefix, best(from, to, SHORT_PREFIX_SUGGESTIONS, () -> false));
+                    from = to;
+                }
+            }
+        }
+
+        /**
+         * @return the best {@code limit} distinct suggestions of the entries, sorted from the
+         * best one, or null if cancelled
+         */
+        int[] best(int from, int to, int limit, BooleanSupplier cancelled) {
+            final int[] best = new int[limit];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if ((i - from) % CANCEL_CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) {
+                    return null;
+                }
+                final int item = entryItems[i];
+                if (count == limit && compare(item, best[count - 1]) >= 0) {
+                    continue;
+                }
+                // skip items matched by several words
+                boolean duplicate = false;
+                for (int j = 0; j < count && !duplicate; j++) {
+                    duplicate = best[j] == item;
+                }
+                if (duplicate) {
+                    continue;
+                }
+                int position = count == limit ? count - 1 : count++;
+                while (position > 0 && compare(item, best[position - 1]) < 0) {
+                    best[position] = best[position - 1];
+                    position--;
+                }
+                best[position] = item;
+            }
+            return count == limit ? best : Arrays.copyOf(best, count);
+        }
+
+        private int compare(int first, int second) {
+            if (ranking != null) {
+                final int result = ranking.compare(items[first], items[second]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            final int result = Integer.compare(keys[first].length(), keys[second].length());
+            return result != 0 ? result : Integer.compare(first, second);
+        }
+
+        /**
+         * @return the first entry starting with the prefix, or the first entry
+         * after the ones starting with the prefix if {@code after} is true
+         */
+        int search(String prefix, boolean after) {
+            int low = 0;
+            int high = entryItems.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                final int result = comparePrefix(middle, prefix);
+                if (result < 0 || after && result == 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int comparePrefix(int entry, String prefix) {
+            final String key = keys[entryItems[entry]];
+            final int offset = entryOffsets[entry];
+            final int length = Math.min(key.length() - offset, prefix.length());
+            for (int i = 0; i < length; i++) {
+                final int result = key.charAt(offset + i) - prefix.charAt(i);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return key.length() - offset < prefix.length() ? -1 : 0;
+        }
+
+        private static int compareSuffixes(String first, int firstOffset, String second, int secondOffset) {
+            final int length = Math.min(first.length() - firstOffset, second.length() - secondOffset);
+            for (int i = 0; i < length; i++) {
+                final int result = first.charAt(firstOffset + i) - second.charAt(secondOffset + i);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(first.length() - firstOffset, second.length() - secondOffset);
+        }
+    }
+}
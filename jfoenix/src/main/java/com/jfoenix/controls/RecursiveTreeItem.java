@@ -23,7 +23,14 @@ package com.jfoenix.controls;
 
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.utils.JFXUtilities;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -35,12 +42,20 @@ import javafx.util.Callback;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
  * RecursiveTreeItem is used along with RecursiveTreeObject
  * to build the data model for the TreeTableView.
+ * <p>
+ * leaf items don't listen to the children of their data, children added to the data of a leaf
+ * are shown once its parent data list reports it as updated, e.g. using an extractor
+ * on the children list.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -51,14 +66,27 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
     private final Callback<RecursiveTreeObject<T>, ObservableList<T>> childrenFactory;
 
     /**
-     * predicate used to filter nodes
+     * shared children list of the leaf items, leaves allocate their own lists once they get children
      */
-    private final ObjectProperty<Predicate<TreeItem<T>>> predicate = new SimpleObjectProperty<>((TreeItem<T> t) -> true);
+    private static final ObservableList<?> EMPTY_ITEMS = FXCollections.emptyObservableList();
+
+    private static final InvalidationListener VALUE_LISTENER = observable ->
+        ((RecursiveTreeItem<?>) ((ReadOnlyProperty<?>) observable).getBean()).valueChanged();
 
     /**
-     * map data value to tree item
+     * predicate used to filter nodes, created on demand
      */
-    private HashMap<T, TreeItem<T>> itemsMap;
+    private ObjectProperty<Predicate<TreeItem<T>>> predicate;
+
+    /**
+     * predicate of this item while its property is not created
+     */
+    private Predicate<TreeItem<T>> predicateValue = (TreeItem<T> t) -> true;
+
+    /**
+     * map data value to tree item, null for leaf items
+     */
+    private Map<T, TreeItem<T>> itemsMap;
 
     /**
      * list of original items
@@ -66,10 +94,77 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
     ObservableList<TreeItem<T>> originalItems;
 
     /**
-     * list of filtered items
+     * list of filtered items, null for leaf items
      */
     FilteredList<TreeItem<T>> filteredItems;
 
+    /**
+     * listeners notified with the tree items whose values were updated in place
+     */
+    private List<Consumer<List<TreeItem<T>>>> updatedItemsListeners;
+
+    /**
+     * listeners notified with this item once its children lists are created or replaced
+     */
+    private List<Consumer<RecursiveTreeItem<T>>> itemsListsListeners;
+
+    /**
+     * whether the children of this item are currently shown under the group nodes
+     * of a grouped tree table, in which case filtering must not reparent them
+     */
+    volatile boolean grouped = false;
+
+    /**
+     * set while a computed filter result is applied, to avoid filtering the items again
+     */
+    private boolean applyingFilter = false;
+
+    /**
+     * counts the FX round trips of the filter pass running on the current thread
+     */
+    private static final ThreadLocal<int[]> FILTER_PASS_ROUND_TRIPS = new ThreadLocal<>();
+
+    /**
+     * number of FX round trips made by the last filter pass started from this item
+     */
+    private volatile int lastFilterRoundTrips = 0;
+
+    /**
+     * whether the children of this item create their own children only when needed
+     */
+    private final boolean lazy;
+
+    /**
+     * whether the children tree items of this item are created
+     */
+    private boolean materialized = false;
+
+    /**
+     * whether the data of this item has no children, cached until the item is materialized
+     * or its parent reports its data as updated. null if not computed yet
+     */
+    private Boolean leaf;
+
+    /**
+     * whether the tree items of the whole subtree are created, always true for the
+     * subtrees of items that are not lazy
+     */
+    private volatile boolean subtreeMaterialized;
+
+    /**
+     * whether this item shares the empty children lists until it gets children
+     */
+    private final boolean compact;
+
+    /**
+     * number of data items among the shown descendants of this item, group items are not counted
+     */
+    private int itemsCount = 0;
+
+    private ReadOnlyIntegerWrapper itemsCountProperty;
+
+    private ListChangeListener<TreeItem<T>> itemsCountListener;
+
     /***************************************************************************
      *                                                                         *
      * Constructors                                                            *
@@ -103,9 +198,31 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func    is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(value, graphic, func, false);
+    }
+
+    /**
+     * creates recursive tree item for a specified value and a graphic node
+     *
+     * @param value   of the tree item
+     * @param graphic node
+     * @param func    is the callback used to retrieve the children of the current tree item
+     * @param lazy    whether the descendant tree items are created only when they are expanded
+     *                or filtered, they are only counted once created
+     */
+    public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
+        this(value, graphic, func, lazy, true, false);
+    }
+
+    private RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                              boolean lazy, boolean materialize, boolean compact) {
         super(value, graphic);
         this.childrenFactory = func;
-        init(value);
+        this.lazy = lazy;
+        this.subtreeMaterialized = !lazy;
+        this.compact = compact;
+        init(value, materialize);
     }
 
     /**
@@ -115,74 +232,411 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func     is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(dataList, func, false);
+    }
+
+    /**
+     * creates recursive tree item from a data list
+     *
+     * @param dataList of values
+     * @param func     is the callback used to retrieve the children of the current tree item
+     * @param lazy     whether the descendant tree items are created only when they are expanded
+     *                 or filtered, they are only counted once created
+     */
+    public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
         RecursiveTreeObject<T> root = new RecursiveTreeObject<>();
         root.setChildren(dataList);
         this.childrenFactory = func;
-        init(root);
+        this.lazy = lazy;
+        this.subtreeMaterialized = !lazy;
+        this.compact = false;
+        init(root, true);
     }
 
-    private void init(RecursiveTreeObject<T> value) {
+    /**
+     * @param value       used to create the children tree items
+     * @param materialize whether to create the children tree items now or when first needed
+     */
+    private void init(RecursiveTreeObject<T> value, boolean materialize) {
+
+        if (materialize) {
+            addChildrenListener(value);
+        }
 
-        addChildrenListener(value);
+        valueProperty().addListener(VALUE_LISTENER);
+    }
 
-        valueProperty().addListener(observable -> {
-            if (getValue() != null) {
-                addChildrenListener(getValue());
+    private void predicateChanged() {
+        if (applyingFilter) {
+            return;
+        }
+        if (!materialized) {
+            runInFXAndWait(this::materialize);
+        }
+        if (filteredItems == null) {
+            // leaf items have nothing to filter
+            return;
+        }
+        final boolean startsPass = FILTER_PASS_ROUND_TRIPS.get() == null;
+        if (startsPass) {
+            FILTER_PASS_ROUND_TRIPS.set(new int[1]);
+        }
+        try {
+            if (startsPass && isBatchUpdates()) {
+                // compute the whole pass then publish all child lists at once
+                if (!subtreeMaterialized) {
+                    runInFXAndWait(this::materializeDescendants);
+                }
+                final FilterResult<T> result = computeFilter(getPredicate(), () -> false);
+                runInFXAndWait(() -> applyFilter(result));
+            } else {
+                filteredItems.setPredicate(this::filterChild);
             }
-        });
+        } finally {
+            if (startsPass) {
+                lastFilterRoundTrips = FILTER_PASS_ROUND_TRIPS.get()[0];
+                FILTER_PASS_ROUND_TRIPS.remove();
+            }
+        }
+    }
+
+    private void valueChanged() {
+        leaf = null;
+        if (getValue() != null && materialized) {
+            addChildrenListener(getValue());
+        }
+    }
 
-        predicate.addListener(observable -> {
-            filteredItems.setPredicate(child -> {
-                // Set the predicate of child items to force filtering
+    /**
+     * called when the parent data list reports the data of this item as updated, e.g. using an
+     * extractor on the children of the data, since items that are not materialized and compact
+     * leaves don't listen to the children of their data
+     */
+    private void dataUpdated() {
+        leaf = null;
+        if (originalItems == EMPTY_ITEMS && !childrenFactory.call(getValue()).isEmpty()) {
+            // first children of a compact leaf
+            addChildrenListener(getValue());
+        }
+    }
+
+    /**
+     * creates the children tree items if they were not created yet
+     */
+    private void materialize() {
+        if (!materialized && childrenFactory != null && getValue() != null) {
+            addChildrenListener(getValue());
+        }
+    }
+
+    /**
+     * creates the tree items of the whole subtree, a filter computed outside the FX thread
+     * only reads the tree items, so they must be created on the FX thread before the
+     * computation starts
+     */
+    void materializeDescendants() {
+        if (subtreeMaterialized) {
+            return;
+        }
+        materialize();
+        if (originalItems != null) {
+            for (TreeItem<T> child : originalItems) {
                 if (child instanceof RecursiveTreeItem) {
-                    if (!((RecursiveTreeItem) child).originalItems.isEmpty()) {
-                        RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
-                        filterableChild.setPredicate(predicate.get());
-                    }
+                    ((RecursiveTreeItem<T>) child).materializeDescendants();
                 }
-                // If there is no predicate, keep this tree item
-                if (predicate.get() == null) {
-                    return true;
+            }
+        }
+        subtreeMaterialized = true;
+    }
+
+    /**
+     * @return true if the tree items of the whole subtree are created, so
+     * {@link #materializeDescendants()} has nothing to do
+     */
+    boolean isSubtreeMaterialized() {
+        return subtreeMaterialized;
+    }
+
+    /**
+     * called when lazy children are created, the subtrees containing them are no longer materialized.
+     * the shown parents are walked, so the children of a grouped root don't reach it
+     */
+    private void subtreeChanged() {
+        TreeItem<T> item = this;
+        while (item instanceof RecursiveTreeItem && ((RecursiveTreeItem<T>) item).subtreeMaterialized) {
+            ((RecursiveTreeItem<T>) item).subtreeMaterialized = false;
+            item = item.getParent();
+        }
+    }
+
+    /**
+     * @return true if this item has children, before any filtering
+     */
+    private boolean hasOriginalItems() {
+        return materialized ? !originalItems.isEmpty() : !isLeaf();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ObservableList<TreeItem<T>> getChildren() {
+        materialize();
+        return super.getChildren();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeaf() {
+        if (materialized && originalItems == EMPTY_ITEMS) {
+            return true;
+        }
+        if (!materialized && childrenFactory != null) {
+            if (leaf == null) {
+                leaf = getValue() == null || childrenFactory.call(getValue()).isEmpty();
+            }
+            return leaf;
+        }
+        return super.isLeaf();
+    }
+
+
+    /**
+     * runs the specified task on the FX thread, counting the round trip
+     * if it's part of a filter pass
+     */
+    private static void runInFXAndWait(Runnable doRun) {
+        if (!Platform.isFxApplicationThread()) {
+            final int[] roundTrips = FILTER_PASS_ROUND_TRIPS.get();
+            if (roundTrips != null) {
+                roundTrips[0]++;
+            }
+        }
+        JFXUtilities.runInFXAndWait(doRun);
+    }
+
+    void addUpdatedItemsListener(Consumer<List<TreeItem<T>>> listener) {
+        if (updatedItemsListeners == null) {
+            updatedItemsListeners = new ArrayList<>(1);
+        }
+        updatedItemsListeners.add(listener);
+    }
+
+    void removeUpdatedItemsListener(Consumer<List<TreeItem<T>>> listener) {
+        if (updatedItemsListeners != null) {
+            updatedItemsListeners.remove(listener);
+        }
+    }
+
+    void addItemsListsListener(Consumer<RecursiveTreeItem<T>> listener) {
+        if (itemsListsListeners == null) {
+            itemsListsListeners = new ArrayList<>(1);
+        }
+        itemsListsListeners.add(listener);
+    }
+
+    void removeItemsListsListener(Consumer<RecursiveTreeItem<T>> listener) {
+        if (itemsListsListeners != null) {
+            itemsListsListeners.remove(listener);
+        }
+    }
+
+    private void itemsListsChanged() {
+        if (itemsListsListeners != null) {
+            for (Consumer<RecursiveTreeItem<T>> listener : new ArrayList<>(itemsListsListeners)) {
+                listener.accept(this);
+            }
+        }
+    }
+
+    /**
+     * @return true if this item has its own children lists, false for compact leaves
+     * and items that are not materialized
+     */
+    boolean hasItemsLists() {
+        return originalItems != null && originalItems != EMPTY_ITEMS;
+    }
+
+    private boolean filterChild(TreeItem<T> child) {
+        // Set the predicate of child items to force filtering
+        if (child instanceof RecursiveTreeItem) {
+            if (((RecursiveTreeItem) child).hasOriginalItems()) {
+                RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
+                filterableChild.setPredicate(getPredicate());
+            }
+        }
+        // If there is no predicate, keep this tree item
+        if (getPredicate() == null) {
+            return true;
+        }
+        // If there are children, keep this tree item
+        final boolean hasChildren = hasFilteredItems(child);
+        if (hasChildren) {
+            return true;
+        }
+        // If its a group node keep this item if it has children
+        if (isGroupItem(child)) {
+            return false;
+        }
+        // Otherwise ask the TreeItemPredicate
+        return getPredicate().test(child);
+    }
+
+    /**
+     * @return true if the specified item has visible children, read from the filtered items
+     * computed in the current pass rather than from the published children
+     */
+    private static boolean hasFilteredItems(TreeItem<?> item) {
+        if (item instanceof RecursiveTreeItem && ((RecursiveTreeItem<?>) item).filteredItems != null) {
+            return !((RecursiveTreeItem<?>) item).filteredItems.isEmpty();
+        }
+        return !item.getChildren().isEmpty();
+    }
+
+    private static boolean isGroupItem(TreeItem<?> item) {
+        return item.getValue() != null && item.getValue().getClass() == RecursiveTreeObject.class;
+    }
+
+    /**
+     * computes the visible items of this subtree for the specified predicate without
+     * modifying the tree, so it can be called outside the FX thread. The subtree must be
+     * materialized beforehand using {@link #materializeDescendants()}, items that are not
+     * materialized are kept visible if they have children in the data model.
+     *
+     * @param predicate used to filter the tree items
+     * @param cancelled checked between subtrees to stop the computation
+     * @return the result to be applied using {@link #applyFilter(FilterResult)},
+     * or null if the computation was cancelled
+     */
+    FilterResult<T> computeFilter(Predicate<TreeItem<T>> predicate, BooleanSupplier cancelled) {
+        final FilterResult<T> result = new FilterResult<>(predicate);
+        return computeFilter(result, cancelled) < 0 ? null : result;
+    }
+
+    /**
+     * @return the number of visible children, or -1 if the computation was cancelled
+     */
+    private int computeFilter(FilterResult<T> result, BooleanSupplier cancelled) {
+        final Predicate<TreeItem<T>> predicate = result.predicate;
+        if (!materialized) {
+            return 0;
+        }
+        final List<TreeItem<T>> children = new ArrayList<>(originalItems);
+        final Map<TreeItem<T>, Boolean> decisions = new IdentityHashMap<>();
+        int visibleCount = 0;
+        for (TreeItem<T> child : children) {
+            boolean hasChildren;
+            if (child instanceof RecursiveTreeItem && !((RecursiveTreeItem) child).materialized) {
+                // added after the subtree was materialized, never create tree items here
+                hasChildren = !child.isLeaf();
+            } else if (child instanceof RecursiveTreeItem && !((RecursiveTreeItem) child).originalItems.isEmpty()) {
+                if (cancelled.getAsBoolean()) {
+                    return -1;
                 }
-                // If there are children, keep this tree item
-                if (!child.getChildren().isEmpty()) {
-                    return true;
+                final int childCount = ((RecursiveTreeItem<T>) child).computeFilter(result, cancelled);
+                if (childCount < 0) {
+                    return -1;
                 }
-                // If its a group node keep this item if it has children
-                if (child.getValue() != null &&
-                    child.getValue().getClass() == RecursiveTreeObject.class) {
-                    return !child.getChildren().isEmpty();
+                hasChildren = childCount > 0;
+            } else {
+                hasChildren = !child.getChildren().isEmpty();
+            }
+            final boolean visible = predicate == null || hasChildren
+                                    || (!isGroupItem(child) && predicate.test(child));
+            decisions.put(child, visible);
+            if (visible) {
+                visibleCount++;
+            }
+        }
+        result.decisions.put(this, decisions);
+        return visibleCount;
+    }
+
+    /**
+     * applies a filter result computed by {@link #computeFilter(Predicate, BooleanSupplier)},
+     * this method must be called from the FX thread
+     *
+     * @param result of the filter computation
+     */
+    void applyFilter(FilterResult<T> result) {
+        for (Map.Entry<RecursiveTreeItem<T>, Map<TreeItem<T>, Boolean>> entry : result.decisions.entrySet()) {
+            final RecursiveTreeItem<T> item = entry.getKey();
+            final Map<TreeItem<T>, Boolean> decisions = entry.getValue();
+            if (item.predicate == null) {
+                item.predicateValue = result.predicate;
+            } else {
+                item.applyingFilter = true;
+                try {
+                    item.predicate.set(result.predicate);
+                } finally {
+                    item.applyingFilter = false;
                 }
-                // Otherwise ask the TreeItemPredicate
-                return predicate.get().test(child);
+            }
+            // items added after the computation are tested against the predicate
+            item.filteredItems.setPredicate(child -> {
+                final Boolean visible = decisions.get(child);
+                return visible != null ? visible : item.filterChild(child);
             });
-        });
-
-        this.filteredItems.predicateProperty().addListener(observable ->
-            JFXUtilities.runInFXAndWait(() -> {
-                getChildren().clear();
-                getChildren().setAll(filteredItems);
-            }));
+        }
     }
 
+    /**
+     * holds the visibility of the children of each item in a filtered subtree
+     */
+    static final class FilterResult<T extends RecursiveTreeObject<T>> {
+        private final Predicate<TreeItem<T>> predicate;
+        private final Map<RecursiveTreeItem<T>, Map<TreeItem<T>, Boolean>> decisions = new IdentityHashMap<>();
+
+        private FilterResult(Predicate<TreeItem<T>> predicate) {
+            this.predicate = predicate;
+        }
+    }
 
     private void addChildrenListener(RecursiveTreeObject<T> value) {
+        materialized = true;
+        // the count is rebuilt from the children being added
+        adjustItemsCount(-itemsCount);
         final ObservableList<T> children = childrenFactory.call(value);
-        originalItems = FXCollections.observableArrayList();
-        itemsMap = new HashMap<>();
-
+        if (compact && children.isEmpty()) {
+            // leaves don't listen to the children of their data, see dataUpdated
+            originalItems = emptyItems();
+            filteredItems = null;
+            itemsMap = null;
+            itemsListsChanged();
+            return;
+        }
+        createItemsLists();
         for (T child : children) {
-            final RecursiveTreeItem<T> treeItem = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory);
+            final RecursiveTreeItem<T> treeItem = createChild(child);
             originalItems.add(treeItem);
             itemsMap.put(child, treeItem);
         }
-
-        filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
-
         this.getChildren().addAll(originalItems);
+        if (lazy && !originalItems.isEmpty()) {
+            subtreeChanged();
+        }
+        itemsListsChanged();
 
         children.addListener((ListChangeListener<T>) change -> {
             while (change.next()) {
+                if (change.wasUpdated()) {
+                    List<TreeItem<T>> updatedItems = new ArrayList<>();
+                    for (T t : change.getList().subList(change.getFrom(), change.getTo())) {
+                        final TreeItem<T> treeItem = itemsMap.get(t);
+                        if (treeItem != null) {
+                            ((RecursiveTreeItem<T>) treeItem).dataUpdated();
+                            updatedItems.add(treeItem);
+                        }
+                    }
+                    if (updatedItemsListeners != null) {
+                        for (Consumer<List<TreeItem<T>>> listener : updatedItemsListeners) {
+                            listener.accept(updatedItems);
+                        }
+                    }
+                }
                 if (change.wasRemoved()) {
                     List<TreeItem<T>> removedItems = new ArrayList<>();
                     for (T t : change.getRemoved()) {
@@ -192,42 +646,189 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
                             removedItems.add(treeItem);
                         }
                     }
+                    // the children of a grouped root are shown under the group items,
+                    // the group index places them from the original items changes
                     if (originalItems.size() == removedItems.size()) {
                         originalItems.clear();
-                        getChildren().clear();
+                        if (!grouped) {
+                            getChildren().clear();
+                        }
                     } else {
-                        getChildren().removeAll(removedItems);
+                        if (!grouped) {
+                            getChildren().removeAll(removedItems);
+                        }
                         originalItems.removeAll(removedItems);
                     }
                 }
                 if (change.wasAdded()) {
                     List<RecursiveTreeItem<T>> addedItems = new ArrayList<>();
                     for (T newChild : change.getAddedSubList()) {
-                        final RecursiveTreeItem<T> newTreeItem = new RecursiveTreeItem<>(newChild, getGraphic(), childrenFactory);
+                        final RecursiveTreeItem<T> newTreeItem = createChild(newChild);
                         addedItems.add(newTreeItem);
                         itemsMap.put(newChild, newTreeItem);
                     }
-                    getChildren().addAll(addedItems);
+                    if (!grouped) {
+                        getChildren().addAll(addedItems);
+                    }
                     originalItems.addAll(addedItems);
+                    if (lazy) {
+                        subtreeChanged();
+                    }
                 }
             }
         });
 
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> ObservableList<T> emptyItems() {
+        return (ObservableList<T>) EMPTY_ITEMS;
+    }
+
+    private void createItemsLists() {
+        if (itemsCountListener == null) {
+            itemsCountListener = this::childrenChanged;
+            super.getChildren().addListener(itemsCountListener);
+        }
+        originalItems = FXCollections.observableArrayList();
+        itemsMap = new HashMap<>();
+        filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
+        filteredItems.predicateProperty().addListener(observable -> {
+            if (!grouped) {
+                // published before the pass goes on, the parent pass reads the shown children
+                runInFXAndWait(() -> {
+                    getChildren().clear();
+                    getChildren().setAll(filteredItems);
+                });
+            }
+        });
+    }
+
+    /**
+     * updates the items count from the shown children changes
+     */
+    private void childrenChanged(ListChangeListener.Change<? extends TreeItem<T>> change) {
+        int delta = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getFrom() == 0 && change.getTo() == change.getList().size() && change.wasRemoved()) {
+                // the whole list was replaced, count it again
+                int count = 0;
+                for (TreeItem<T> child : change.getList()) {
+                    count += countOf(child);
+                }
+                adjustItemsCount(count - itemsCount);
+                return;
+            }
+            for (TreeItem<T> child : change.getRemoved()) {
+                delta -= countOf(child);
+            }
+            for (TreeItem<T> child : change.getAddedSubList()) {
+                delta += countOf(child);
+            }
+        }
+        if (change.getList().isEmpty()) {
+            delta = -itemsCount;
+        }
+        adjustItemsCount(delta);
+    }
+
+    private void adjustItemsCount(int delta) {
+        if (delta == 0) {
+            return;
+        }
+        itemsCount += delta;
+        if (itemsCountProperty != null) {
+            itemsCountProperty.set(itemsCount);
+        }
+        if (getParent() instanceof RecursiveTreeItem) {
+            ((RecursiveTreeItem<T>) getParent()).adjustItemsCount(delta);
+        }
+    }
+
+    /**
+     * @return the number of data items in the specified item and its shown descendants
+     */
+    private static int countOf(TreeItem<?> item) {
+        int count = item.getValue() == null || isGroupItem(item) ? 0 : 1;
+        if (item instanceof RecursiveTreeItem) {
+            return count + ((RecursiveTreeItem<?>) item).itemsCount;
+        }
+        for (TreeItem<?> child : item.getChildren()) {
+            count += countOf(child);
+        }
+        return count;
+    }
+
+    private RecursiveTreeItem<T> createChild(T child) {
+        return new RecursiveTreeItem<>(child, getGraphic(), childrenFactory, lazy, !lazy, true);
+    }
+
     public final ObjectProperty<Predicate<TreeItem<T>>> predicateProperty() {
+        if (predicate == null) {
+            predicate = new SimpleObjectProperty<>(predicateValue);
+            predicate.addListener(observable -> predicateChanged());
+        }
         return this.predicate;
     }
 
     public final Predicate<TreeItem<T>> getPredicate() {
-        return this.predicateProperty().get();
+        return predicate == null ? predicateValue : predicate.get();
     }
 
     public final void setPredicate(final Predicate<TreeItem<T>> predicate) {
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * Whether or not the filter passes started from this item collect the child list
+     * changes of all the filtered items and publish them in a single FX round trip,
+     * instead of one blocking round trip per filtered item.
+     */
+    private BooleanProperty batchUpdates;
+
+    public final BooleanProperty batchUpdatesProperty() {
+        if (batchUpdates == null) {
+            batchUpdates = new SimpleBooleanProperty(false);
+        }
+        return this.batchUpdates;
+    }
+
+    public final boolean isBatchUpdates() {
+        return batchUpdates != null && batchUpdates.get();
+    }
+
+    public final void setBatchUpdates(final boolean batchUpdates) {
+        this.batchUpdatesProperty().set(batchUpdates);
+    }
+
+    /**
+     * @return the number of blocking FX round trips made by the last filter pass
+     * started from this item
+     */
+    public final int getLastFilterRoundTrips() {
+        return lastFilterRoundTrips;
+    }
+
+    /**
+     * number of data items shown under this item, group items are not counted.
+     * For group items it's the number of items in the group
+     */
+    public final ReadOnlyIntegerProperty itemsCountProperty() {
+        if (itemsCountProperty == null) {
+            itemsCountProperty = new ReadOnlyIntegerWrapper(this, "itemsCount", itemsCount);
+        }
+        return itemsCountProperty.getReadOnlyProperty();
+    }
+
+    public final int getItemsCount() {
+        return itemsCount;
+    }
+
     public TreeItem<T> getTreeItem(T value) {
-        return itemsMap.get(value);
+        materialize();
+        return itemsMap == null ? null : itemsMap.get(value);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * strategy used by {@link JFXAutoCompletePopup#suggest(String)} to compute the suggestions of a query.
+ *
+ * @param <T> type of the suggestions
+ * @version 1.0
+ * @since 2026-10-17
+ * @see PrefixSuggestionProvider
+ */
+@FunctionalInterface
+public interface SuggestionProvider<T> {
+
+    /**
+     * computes the best suggestions for the specified query, this method is called
+     * outside the FX thread
+     *
+     * @param query     typed by the user
+     * @param limit     maximum number of suggestions to return
+     * @param cancelled returns true once a newer query was requested, the provider should
+     *                  stop computing the suggestions as soon as possible
+     * @return the suggestions ordered from the best one, or null if cancelled
+     */
+    List<T> suggest(String query, int limit, BooleanSupplier cancelled);
+}
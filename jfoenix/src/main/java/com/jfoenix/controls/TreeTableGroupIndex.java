@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.datamodels.treetable.GroupAggregator;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import com.jfoenix.utils.JFXUtilities;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * this class keeps the group hierarchy of a grouped {@link JFXTreeTableView}, it's
+ * maintained from the change events of the ungrouped root so adding, removing or
+ * updating rows only touches the groups of the affected rows.
+ * <p>
+ * all changes to the group nodes are applied on the FX thread.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class TreeTableGroupIndex<S extends RecursiveTreeObject<S>> {
+
+    private final JFXTreeTableView<S> treeTableView;
+    private final RecursiveTreeItem<S> source;
+    private final ObservableList<TreeItem<S>> sourceItems;
+    private final List<TreeTableColumn<S, ?>> columns;
+    private final List<GroupAggregator<S>> aggregators;
+
+    /**
+     * map each leaf tree item to the group that holds it
+     */
+    private final Map<TreeItem<S>, Group> leafGroups = new IdentityHashMap<>();
+
+    /**
+     * aggregated values of each leaf, kept to remove them from the groups aggregates
+     */
+    private final Map<TreeItem<S>, double[]> leafValues = new IdentityHashMap<>();
+
+    /**
+     * grouping level of the column of each aggregator, or -1 if its column isn't grouped,
+     * the values of grouped columns are read from the group keys
+     */
+    private final int[] keyLevels;
+
+    private Group rootGroup;
+
+    private final ListChangeListener<TreeItem<S>> itemsListener = this::itemsChanged;
+    private final Consumer<List<TreeItem<S>>> updatedItemsListener = this::itemsUpdated;
+
+    TreeTableGroupIndex(JFXTreeTableView<S> treeTableView, RecursiveTreeItem<S> source,
+                        List<TreeTableColumn<S, ?>> columns, List<GroupAggregator<S>> aggregators) {
+        this.treeTableView = treeTableView;
+        this.source = source;
+        this.sourceItems = source.filteredItems;
+        this.columns = new ArrayList<>(columns);
+        this.aggregators = new ArrayList<>(aggregators);
+        this.keyLevels = new int[this.aggregators.size()];
+        for (int i = 0; i < keyLevels.length; i++) {
+            final TreeTableColumn<S, ?> column = this.aggregators.get(i).getColumn();
+            keyLevels[i] = column == null ? -1 : this.columns.indexOf(column);
+        }
+    }
+
+    /**
+     * builds the group nodes from the grouped items map computed by the tree table view
+     *
+     * @param groupedItems nested map of group keys to either sub groups or leaf items
+     * @return the new root of the grouped tree table
+     */
+    RecursiveTreeItem<S> build(Map<?, ?> groupedItems) {
+        leafGroups.clear();
+        leafValues.clear();
+        rootGroup = new Group(null, null, -1);
+        build(groupedItems, rootGroup);
+        rootGroup.publishAggregates();
+        return rootGroup.item;
+    }
+
+    private void build(Map<?, ?> groupedItems, Group parent) {
+        for (Map.Entry<?, ?> entry : groupedItems.entrySet()) {
+            Group group = createGroup(parent, entry.getKey());
+            Object children = entry.getValue();
+            if (children instanceof List) {
+                List<TreeItem<S>> leaves = (List<TreeItem<S>>) children;
+                group.item.originalItems.addAll(leaves);
+                group.item.getChildren().addAll(leaves);
+                final double[] keyValues = group.keyValues();
+                for (TreeItem<S> leaf : leaves) {
+                    leafGroups.put(leaf, group);
+                    // the ancestors get the values once the group is complete
+                    final double[] values = valuesOf(leaf, keyValues);
+                    if (values != null) {
+                        for (int i = 0; i < values.length; i++) {
+                            group.aggregates[i].add(values[i]);
+                        }
+                    }
+                }
+            } else if (children instanceof Map) {
+                build((Map<?, ?>) children, group);
+            }
+            for (int i = 0; i < group.aggregates.length; i++) {
+                parent.aggregates[i].addAll(group.aggregates[i]);
+            }
+            group.publishAggregates();
+            notifyGroupCreated(group);
+        }
+    }
+
+    /**
+     * starts following the changes of the ungrouped root
+     */
+    void attach() {
+        sourceItems.addListener(itemsListener);
+        source.addUpdatedItemsListener(updatedItemsListener);
+    }
+
+    void detach() {
+        sourceItems.removeListener(itemsListener);
+        source.removeUpdatedItemsListener(updatedItemsListener);
+    }
+
+    /**
+     * @return true if this index still reflects the specified root grouped by the specified columns
+     */
+    boolean isValid(TreeItem<S> root, List<TreeTableColumn<S, ?>> groupColumns) {
+        return root == source && source.filteredItems == sourceItems && columns.equals(groupColumns)
+               && aggregators.equals(treeTableView.getGroupAggregators());
+    }
+
+    private void itemsChanged(ListChangeListener.Change<? extends TreeItem<S>> change) {
+        final List<TreeItem<S>> removed = new ArrayList<>();
+        final List<TreeItem<S>> added = new ArrayList<>();
+        while (change.next()) {
+            // order inside the groups is handled by the tree table sort
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            JFXUtilities.runInFX(() -> update(removed, added, Collections.emptyList()));
+        }
+    }
+
+    private void itemsUpdated(List<TreeItem<S>> updated) {
+        final List<TreeItem<S>> updatedItems = new ArrayList<>(updated);
+        JFXUtilities.runInFX(() -> update(Collections.emptyList(), Collections.emptyList(), updatedItems));
+    }
+
+    private void update(List<TreeItem<S>> removed, List<TreeItem<S>> added, List<TreeItem<S>> updated) {
+        // a filter pass replaces the whole list, only items that actually left or joined are processed
+        final Set<TreeItem<S>> addedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        addedSet.addAll(added);
+
+        final Map<Group, List<TreeItem<S>>> toRemove = new LinkedHashMap<>();
+        final Map<Group, List<TreeItem<S>>> toAdd = new LinkedHashMap<>();
+        final List<Group> createdGroups = new ArrayList<>();
+        final Set<Group> changedAggregates = new LinkedHashSet<>();
+
+        for (TreeItem<S> leaf : removed) {
+            if (!addedSet.contains(leaf)) {
+                final Group group = leafGroups.remove(leaf);
+                if (group != null) {
+                    toRemove.computeIfAbsent(group, g -> new ArrayList<>()).add(leaf);
+                    changedAggregates.add(removeValues(leaf, group));
+                }
+            }
+        }
+        for (TreeItem<S> leaf : updated) {
+            final Group group = leafGroups.get(leaf);
+            if (group == null) {
+                continue;
+            }
+            changedAggregates.add(removeValues(leaf, group));
+            if (group.matches(leaf)) {
+                addValues(leaf, group);
+            } else {
+                leafGroups.remove(leaf);
+                toRemove.computeIfAbsent(group, g -> new ArrayList<>()).add(leaf);
+                addedSet.add(leaf);
+            }
+        }
+        for (TreeItem<S> leaf : addedSet) {
+            if (!leafGroups.containsKey(leaf)) {
+                final Group group = findGroup(leaf, createdGroups);
+                leafGroups.put(leaf, group);
+                toAdd.computeIfAbsent(group, g -> new ArrayList<>()).add(leaf);
+                changedAggregates.add(addValues(leaf, group));
+            }
+        }
+
+        for (Map.Entry<Group, List<TreeItem<S>>> entry : toRemove.entrySet()) {
+            final Set<TreeItem<S>> leaves = Collections.newSetFromMap(new IdentityHashMap<>());
+            leaves.addAll(entry.getValue());
+            entry.getKey().item.originalItems.removeAll(leaves);
+            entry.getKey().item.getChildren().removeAll(leaves);
+        }
+        for (Map.Entry<Group, List<TreeItem<S>>> entry : toAdd.entrySet()) {
+            entry.getKey().item.originalItems.addAll(entry.getValue());
+            entry.getKey().item.getChildren().addAll(entry.getValue());
+        }
+        for (Group group : changedAggregates) {
+            // the aggregates of the ancestors changed as well
+            for (Group ancestor = group; ancestor != null; ancestor = ancestor.parent) {
+                ancestor.publishAggregates();
+            }
+        }
+        for (Group group : toRemove.keySet()) {
+            prune(group);
+        }
+        for (Group group : createdGroups) {
+            if (group.parent.subGroups.get(group.key) == group) {
+                notifyGroupCreated(group);
+            }
+        }
+    }
+
+    /**
+     * adds the aggregated values of the leaf to its group and the group ancestors
+     *
+     * @return the leaf group
+     */
+    private Group addValues(TreeItem<S> leaf, Group group) {
+        final double[] values = valuesOf(leaf, group.keyValues());
+        if (values == null) {
+            return group;
+        }
+        for (Group ancestor = group; ancestor != null; ancestor = ancestor.parent) {
+            for (int i = 0; i < values.length; i++) {
+                ancestor.aggregates[i].add(values[i]);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * removes the aggregated values of the leaf from its group and the group ancestors
+     *
+     * @return the leaf group
+     */
+    private Group removeValues(TreeItem<S> leaf, Group group) {
+        final double[] values = leafValues.remove(leaf);
+        if (values == null) {
+            return group;
+        }
+        for (Group ancestor = group; ancestor != null; ancestor = ancestor.parent) {
+            for (int i = 0; i < values.length; i++) {
+                ancestor.aggregates[i].remove(values[i]);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * reads and keeps the aggregated values of the leaf, the cell data of the grouped
+     * columns isn't read again
+     *
+     * @param keyValues numeric values of the keys of the leaf group
+     * @return the values of the leaf, or null if there are no aggregators
+     */
+    private double[] valuesOf(TreeItem<S> leaf, double[] keyValues) {
+        if (aggregators.isEmpty()) {
+            return null;
+        }
+        final double[] values = new double[aggregators.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = keyLevels[i] == -1 ? aggregators.get(i).valueOf(leaf) : keyValues[i];
+        }
+        leafValues.put(leaf, values);
+        return values;
+    }
+
+    /**
+     * @return the leaf group of the specified item, missing groups are created on the way
+     */
+    private Group findGroup(TreeItem<S> leaf, List<Group> createdGroups) {
+        Group group = rootGroup;
+        for (int i = 0; i < columns.size(); i++) {
+            final Object key = columns.get(i).getCellData(leaf);
+            Group child = group.subGroups.get(key);
+            if (child == null) {
+                child = createGroup(group, key);
+                createdGroups.add(child);
+            }
+            group = child;
+        }
+        return group;
+    }
+
+    private Group createGroup(Group parent, Object key) {
+        final Group group = new Group(parent, key, parent.level + 1);
+        parent.subGroups.put(key, group);
+        parent.item.originalItems.add(group.item);
+        parent.item.getChildren().add(group.item);
+        return group;
+    }
+
+    /**
+     * removes the specified group and its ancestors once they hold no items
+     */
+    private void prune(Group group) {
+        while (group != rootGroup && group.item.originalItems.isEmpty()) {
+            final Group parent = group.parent;
+            if (parent.subGroups.get(group.key) == group) {
+                parent.subGroups.remove(group.key);
+                parent.item.originalItems.remove(group.item);
+                parent.item.getChildren().remove(group.item);
+            }
+            group = parent;
+        }
+    }
+
+    private void notifyGroupCreated(Group group) {
+        final BiConsumer<Object, RecursiveTreeObject> consumer = treeTableView.getGroupedRootConsumer();
+        if (consumer != null) {
+            consumer.accept(group.key, group.value);
+        }
+    }
+
+    private final class Group {
+        private final Group parent;
+        private final Object key;
+        private final int level;
+        private final RecursiveTreeObject value;
+        private final RecursiveTreeItem<S> item;
+        private final Map<Object, Group> subGroups = new HashMap<>();
+        private final Aggregate[] aggregates;
+
+        Group(Group parent, Object key, int level) {
+            this.parent = parent;
+            this.key = key;
+            this.level = level;
+            this.aggregates = new Aggregate[aggregators.size()];
+            for (int i = 0; i < aggregates.length; i++) {
+                aggregates[i] = new Aggregate(aggregators.get(i).getType());
+            }
+            this.value = new RecursiveTreeObject<>();
+            if (parent != null) {
+                value.setGroupedValue(key);
+                value.setGroupedColumn(columns.get(level));
+            }
+            this.item = new RecursiveTreeItem<>((S) value, RecursiveTreeObject::getChildren);
+            if (parent != null) {
+                // TODO: need to be removed once the selection issue is fixed
+                item.expandedProperty().addListener((o, oldVal, newVal) -> {
+                    treeTableView.getSelectionModel().clearSelection();
+                });
+                value.setChildren(item.getChildren());
+            }
+        }
+
+        void publishAggregates() {
+            resolveAggregates();
+            for (int i = 0; i < aggregates.length; i++) {
+                value.getGroupAggregates().put(aggregators.get(i), aggregates[i].getValue());
+            }
+        }
+
+        /**
+         * recomputes the min and max that were removed from the group, from the values of
+         * its leaves or the aggregates of its sub groups
+         */
+        private void resolveAggregates() {
+            for (int i = 0; i < aggregates.length; i++) {
+                final Aggregate aggregate = aggregates[i];
+                if (!aggregate.stale) {
+                    continue;
+                }
+                aggregate.resetExtremes();
+                if (subGroups.isEmpty()) {
+                    for (TreeItem<S> leaf : item.originalItems) {
+                        final double[] values = leafValues.get(leaf);
+                        if (values != null) {
+                            aggregate.addExtreme(values[i]);
+                        }
+                    }
+                } else {
+                    for (Group subGroup : subGroups.values()) {
+                        subGroup.resolveAggregates();
+                        aggregate.addExtremes(subGroup.aggregates[i]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the numeric value of the group key of each aggregator whose column is grouped,
+         * NaN for the others
+         */
+        double[] keyValues() {
+            final double[] keyValues = new double[aggregates.length];
+            for (int i = 0; i < keyValues.length; i++) {
+                keyValues[i] = Double.NaN;
+                for (Group group = this; group.parent != null; group = group.parent) {
+                    if (group.level == keyLevels[i]) {
+                        keyValues[i] = group.key instanceof Number ? ((Number) group.key).doubleValue() : Double.NaN;
+                        break;
+                    }
+                }
+            }
+            return keyValues;
+        }
+
+        /**
+         * @return true if the item still belongs to this group
+         */
+        boolean matches(TreeItem<S> leaf) {
+            Group group = this;
+            while (group.parent != null) {
+                Object key = columns.get(group.level).getCellData(leaf);
+                if (key == null ? group.key != null : !key.equals(group.key)) {
+                    return false;
+                }
+                group = group.parent;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * running aggregation of the values of a group
+     */
+    private static final class Aggregate {
+        private final GroupAggregator.Type type;
+        private int size = 0;
+        private int count = 0;
+        private double sum = 0;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        /**
+         * true once the min or the max was removed, until the group recomputes them
+         */
+        private boolean stale = false;
+
+        Aggregate(GroupAggregator.Type type) {
+            this.type = type;
+        }
+
+        void add(double value) {
+            size++;
+            if (Double.isNaN(value)) {
+                return;
+            }
+            count++;
+            sum += value;
+            addExtreme(value);
+        }
+
+        void remove(double value) {
+            size--;
+            if (Double.isNaN(value)) {
+                return;
+            }
+            count--;
+            sum -= value;
+            if (count == 0) {
+                resetExtremes();
+            } else if (value <= min && type == GroupAggregator.Type.MIN
+                       || value >= max && type == GroupAggregator.Type.MAX) {
+                stale = true;
+            }
+        }
+
+        /**
+         * adds the values of a sub group
+         */
+        void addAll(Aggregate aggregate) {
+            size += aggregate.size;
+            count += aggregate.count;
+            sum += aggregate.sum;
+            addExtremes(aggregate);
+        }
+
+        void addExtreme(double value) {
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+
+        void addExtremes(Aggregate aggregate) {
+            if (aggregate.count > 0) {
+                addExtreme(aggregate.min);
+                addExtreme(aggregate.max);
+            }
+        }
+
+        void resetExtremes() {
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            stale = false;
+        }
+
+        Number getValue() {
+            switch (type) {
+                case COUNT:
+                    return size;
+                case SUM:
+                    return sum;
+                case MIN:
+                    return count == 0 ? null : min;
+                case MAX:
+                    return count == 0 ? null : max;
+                case AVERAGE:
+                    return count == 0 ? null : sum / count;
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * TreeTableSearchIndex is an opt-in text index over the descendants of a {@link RecursiveTreeItem},
+ * it's used to filter a tree table by substring without testing every item on each query.
+ * <p>
+ * the cell values of the indexed columns are split into trigrams, a query is answered by
+ * intersecting the items of its trigrams and verifying the candidates. When a query refines
+ * the previous one (e.g. the user typed another character) the previous matches are narrowed
+ * instead. The index follows the children list changes of the root item and its descendants,
+ * lazy items are indexed once their children are created.
+ * <pre>{@code
+ * searchField.textProperty().addListener((o, oldVal, newVal) ->
+ *     treeTableView.setPredicate(searchIndex.containsPredicate(newVal)));
+ * }</pre>
+ *
+ * @param <S> is the concrete object of the Tree table
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class TreeTableSearchIndex<S extends RecursiveTreeObject<S>> {
+
+    private static final int GRAM_SIZE = 3;
+    private static final char COLUMN_SEPARATOR = '\0';
+
+    private final RecursiveTreeItem<S> root;
+    private final List<TreeTableColumn<S, ?>> columns;
+
+    /**
+     * id of each indexed item, read without locking by the predicates while a filter pass
+     * tests the items. tree items are compared by identity
+     */
+    private final Map<TreeItem<S>, Integer> ids = new ConcurrentHashMap<>();
+    private final List<TreeItem<S>> items = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final BitSet alive = new BitSet();
+    private int deadCount = 0;
+
+    /**
+     * sorted ids of the items containing each trigram
+     */
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    /**
+     * incremented on each change, used to invalidate the last query matches
+     */
+    private long modCount = 0;
+    private String lastQuery;
+    private long lastModCount = -1;
+    private int[] lastMatches;
+
+    /**
+     * children list followed for each item, the lists of an item are replaced when its value changes
+     */
+    private final Map<RecursiveTreeItem<S>, ObservableList<TreeItem<S>>> followedLists = new IdentityHashMap<>();
+
+    private final ListChangeListener<TreeItem<S>> itemsListener = this::itemsChanged;
+    private final Consumer<List<TreeItem<S>>> updatedItemsListener = this::itemsUpdated;
+    private final Consumer<RecursiveTreeItem<S>> itemsListsListener = this::itemsListsChanged;
+
+    /**
+     * creates search index over the descendants of the specified root
+     *
+     * @param root    whose descendants are indexed
+     * @param columns whose cell values are searched
+     */
+    public TreeTableSearchIndex(RecursiveTreeItem<S> root, List<TreeTableColumn<S, ?>> columns) {
+        this.root = root;
+        this.columns = new ArrayList<>(columns);
+        synchronized (this) {
+            follow(root);
+        }
+    }
+
+    /**
+     * stops following the changes of the root item and its descendants
+     */
+    public synchronized void dispose() {
+        unfollow(root);
+    }
+
+    /**
+     * creates a predicate that keeps the tree items containing the specified query
+     * in any of the indexed columns, ignoring case. The matches are computed once when
+     * the predicate is created.
+     *
+     * @param query to search for
+     * @return predicate to be set on the tree table view
+     */
+    public Predicate<TreeItem<S>> containsPredicate(String query) {
+        if (query == null || query.isEmpty()) {
+            return item -> true;
+        }
+        final String normalizedQuery = normalize(query);
+        final Set<TreeItem<S>> matches = search(query);
+        return item -> matches.contains(item)
+                       // items outside the index are checked directly
+                       || (!isIndexed(item) && text(item).contains(normalizedQuery));
+    }
+
+    /**
+     * @param query to search for
+     * @return the indexed tree items containing the query in any of the indexed columns
+     */
+    public synchronized Set<TreeItem<S>> search(String query) {
+        final Set<TreeItem<S>> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id : searchIds(normalize(query))) {
+            result.add(items.get(id));
+        }
+        return result;
+    }
+
+    private boolean isIndexed(TreeItem<S> item) {
+        return ids.containsKey(item);
+    }
+
+    private int[] searchIds(String query) {
+        int[] candidates;
+        if (lastQuery != null && lastModCount == modCount && query.contains(lastQuery)) {
+            // refinement of the previous query, narrow its matches
+            candidates = lastMatches;
+        } else if (query.length() >= GRAM_SIZE) {
+            candidates = null;
+            for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+                final IntList posting = postings.get(gram(query, i));
+                if (posting == null) {
+                    candidates = new int[0];
+                    break;
+                }
+                candidates = candidates == null ? posting.toArray() : posting.intersect(candidates);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+        } else {
+            candidates = alive.stream().toArray();
+        }
+
+        int count = 0;
+        final int[] matches = new int[candidates.length];
+        for (int id : candidates) {
+            if (alive.get(id) && texts.get(id).contains(query)) {
+                matches[count++] = id;
+            }
+        }
+        lastQuery = query;
+        lastModCount = modCount;
+        lastMatches = Arrays.copyOf(matches, count);
+        return lastMatches;
+    }
+
+    private void itemsChanged(ListChangeListener.Change<? extends TreeItem<S>> change) {
+        synchronized (this) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                for (TreeItem<S> item : change.getRemoved()) {
+                    removeTree(item);
+                }
+                for (TreeItem<S> item : change.getAddedSubList()) {
+                    addTree(item);
+                }
+            }
+            compactIfNeeded();
+        }
+    }
+
+    private synchronized void itemsUpdated(List<TreeItem<S>> updated) {
+        for (TreeItem<S> item : updated) {
+            if (remove(item)) {
+                add(item);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    private synchronized void itemsListsChanged(RecursiveTreeItem<S> item) {
+        unfollowChildren(item);
+        followChildren(item);
+        compactIfNeeded();
+    }
+
+    private void follow(RecursiveTreeItem<S> item) {
+        item.addItemsListsListener(itemsListsListener);
+        followChildren(item);
+    }
+
+    private void unfollow(RecursiveTreeItem<S> item) {
+        item.removeItemsListsListener(itemsListsListener);
+        unfollowChildren(item);
+    }
+
+    private void followChildren(RecursiveTreeItem<S> item) {
+        // compact leaves and lazy items are followed again once they get their own lists
+        if (!item.hasItemsLists()) {
+            return;
+        }
+        final ObservableList<TreeItem<S>> children = item.originalItems;
+        followedLists.put(item, children);
+        children.addListener(itemsListener);
+        item.addUpdatedItemsListener(updatedItemsListener);
+        for (TreeItem<S> child : children) {
+            addTree(child);
+        }
+    }
+
+    private void unfollowChildren(RecursiveTreeItem<S> item) {
+        final ObservableList<TreeItem<S>> children = followedLists.remove(item);
+        if (children == null) {
+            return;
+        }
+        children.removeListener(itemsListener);
+        item.removeUpdatedItemsListener(updatedItemsListener);
+        for (TreeItem<S> child : children) {
+            removeTree(child);
+        }
+    }
+
+    private void addTree(TreeItem<S> item) {
+        add(item);
+        if (item instanceof RecursiveTreeItem) {
+            follow((RecursiveTreeItem<S>) item);
+        }
+    }
+
+    private void removeTree(TreeItem<S> item) {
+        remove(item);
+        if (item instanceof RecursiveTreeItem) {
+            unfollow((RecursiveTreeItem<S>) item);
+        }
+    }
+
+    private void add(TreeItem<S> item) {
+        if (ids.containsKey(item)) {
+            return;
+        }
+        final int id = items.size();
+        final String text = text(item);
+        items.add(item);
+        texts.add(text);
+        ids.put(item, id);
+        alive.set(id);
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            // skip the trigrams spanning two columns
+            if (text.charAt(i) == COLUMN_SEPARATOR || text.charAt(i + 1) == COLUMN_SEPARATOR
+                || text.charAt(i + 2) == COLUMN_SEPARATOR) {
+                continue;
+            }
+            postings.computeIfAbsent(gram(text, i), key -> new IntList()).addDistinct(id);
+        }
+        modCount++;
+    }
+
+    private boolean remove(TreeItem<S> item) {
+        final Integer id = ids.remove(item);
+        if (id == null) {
+            return false;
+        }
+        // removed ids are skipped when searching and dropped on compaction
+        alive.clear(id);
+        items.set(id, null);
+        texts.set(id, null);
+        deadCount++;
+        modCount++;
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount > 1024 && deadCount > ids.size()) {
+            final List<TreeItem<S>> liveItems = new ArrayList<>(ids.size());
+            for (int id = alive.nextSetBit(0); id >= 0; id = alive.nextSetBit(id + 1)) {
+                liveItems.add(items.get(id));
+            }
+            ids.clear();
+            items.clear();
+            texts.clear();
+            alive.clear();
+            postings.clear();
+            deadCount = 0;
+            for (TreeItem<S> item : liveItems) {
+                add(item);
+            }
+        }
+    }
+
+    private String text(TreeItem<S> item) {
+        final StringBuilder builder = new StringBuilder();
+        for (TreeTableColumn<S, ?> column : columns) {
+            final Object value = column.getCellData(item);
+            if (value != null) {
+                builder.append(normalize(value.toString()));
+            }
+            builder.append(COLUMN_SEPARATOR);
+        }
+        return builder.toString();
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase();
+    }
+
+    private static long gram(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    /**
+     * growable sorted list of item ids
+     */
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size = 0;
+
+        void addDistinct(int value) {
+            if (size > 0 && data[size - 1] == value) {
+                return;
+            }
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        /**
+         * @return the sorted ids contained in both this list and the specified sorted ids
+         */
+        int[] intersect(int[] other) {
+            final int[] result = new int[Math.min(size, other.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.length) {
+                if (data[i] < other[j]) {
+                    i++;
+                } else if (data[i] > other[j]) {
+                    j++;
+                } else {
+                    result[count++] = data[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+/**
+ * declares an aggregated value computed for each group of a grouped JFXTreeTableView,
+ * the result is stored in {@link RecursiveTreeObject#getGroupAggregates()} of the group
+ * objects using the aggregator as key.
+ *
+ * @param <S> is the concrete object of the Tree table
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class GroupAggregator<S extends RecursiveTreeObject<S>> {
+
+    public enum Type {
+        /**
+         * number of items in the group
+         */
+        COUNT,
+        SUM,
+        MIN,
+        MAX,
+        AVERAGE
+    }
+
+    private final TreeTableColumn<S, ?> column;
+    private final Type type;
+
+    /**
+     * creates group aggregator
+     *
+     * @param column whose numeric cell values are aggregated, not used by {@link Type#COUNT}
+     * @param type   of the aggregation
+     */
+    public GroupAggregator(TreeTableColumn<S, ?> column, Type type) {
+        this.column = column;
+        this.type = type;
+    }
+
+    public TreeTableColumn<S, ?> getColumn() {
+        return column;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @param item of the tree table
+     * @return the value to be aggregated for the specified item, or NaN if it has no numeric value
+     */
+    public double valueOf(TreeItem<S> item) {
+        if (column == null) {
+            return Double.NaN;
+        }
+        final Object value = column.getCellData(item);
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * strategy used by JFXTreeTableView to group its items.
+ * <p>
+ * the result is a nested map of group keys, one level per grouped column, where the
+ * values of the last level are the lists of tree items that belong to the group.
+ *
+ * @param <S> is the concrete object of the Tree table
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface GroupingEngine<S extends RecursiveTreeObject<S>> {
+
+    /**
+     * groups the specified items by the specified columns, this method is called
+     * outside the FX thread
+     *
+     * @param items   to be grouped
+     * @param columns grouping columns ordered from the outer group to the inner one
+     * @return nested map of the grouped items
+     */
+    Map<Object, ?> group(List<TreeItem<S>> items, List<TreeTableColumn<S, ?>> columns);
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * grouping engine that partitions the items and groups them in parallel using a
+ * {@link ForkJoinPool}, each partition is grouped into its own map then the partial
+ * maps are merged keeping the original order of the items.
+ * <p>
+ * <b>Note:</b> the cell value factories of the grouping columns are called from
+ * the pool threads, so they must be safe to read outside the FX thread.
+ *
+ * @param <S> is the concrete object of the Tree table
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ParallelGroupingEngine<S extends RecursiveTreeObject<S>> implements GroupingEngine<S> {
+
+    private static final int DEFAULT_THRESHOLD = 10_000;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * number of items below which a partition is grouped sequentially
+     */
+    private final int threshold;
+
+    /**
+     * creates parallel grouping engine running on the common fork join pool
+     */
+    public ParallelGroupingEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * creates parallel grouping engine
+     *
+     * @param pool      used to run the grouping tasks
+     * @param threshold number of items below which a partition is grouped sequentially
+     */
+    public ParallelGroupingEngine(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Map<Object, ?> group(List<TreeItem<S>> items, List<TreeTableColumn<S, ?>> columns) {
+        if (columns.isEmpty()) {
+            return new HashMap<>();
+        }
+        // take a snapshot as the partitions are read concurrently
+        final List<TreeItem<S>> snapshot = new ArrayList<>(items);
+        final List<TreeTableColumn<S, ?>> groupColumns = new ArrayList<>(columns);
+        return pool.invoke(new GroupTask(snapshot, groupColumns, 0, snapshot.size()));
+    }
+
+    private final class GroupTask extends RecursiveTask<Map<Object, Object>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<TreeItem<S>> items;
+        private final List<TreeTableColumn<S, ?>> columns;
+        private final int from;
+        private final int to;
+
+        GroupTask(List<TreeItem<S>> items, List<TreeTableColumn<S, ?>> columns, int from, int to) {
+            this.items = items;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Object, Object> compute() {
+            if (to - from <= threshold) {
+                return groupPartition();
+            }
+            final int middle = (from + to) >>> 1;
+            final GroupTask left = new GroupTask(items, columns, from, middle);
+            final GroupTask right = new GroupTask(items, columns, middle, to);
+            left.fork();
+            final Map<Object, Object> rightGroups = right.compute();
+            final Map<Object, Object> leftGroups = left.join();
+            merge(leftGroups, rightGroups);
+            return leftGroups;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<Object, Object> groupPartition() {
+            final Map<Object, Object> groups = new HashMap<>();
+            final int lastLevel = columns.size() - 1;
+            for (int i = from; i < to; i++) {
+                final TreeItem<S> item = items.get(i);
+                Map<Object, Object> levelGroups = groups;
+                for (int level = 0; level < lastLevel; level++) {
+                    levelGroups = (Map<Object, Object>) levelGroups.computeIfAbsent(
+                        columns.get(level).getCellData(item), key -> new HashMap<>());
+                }
+                ((List<TreeItem<S>>) levelGroups.computeIfAbsent(
+                    columns.get(lastLevel).getCellData(item), key -> new ArrayList<>())).add(item);
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * merges the groups of a partition into the groups of the previous partition
+     */
+    @SuppressWarnings("unchecked")
+    private static void merge(Map<Object, Object> into, Map<Object, Object> from) {
+        for (Map.Entry<Object, Object> entry : from.entrySet()) {
+            final Object existing = into.putIfAbsent(entry.getKey(), entry.getValue());
+            if (existing instanceof List) {
+                ((List<Object>) existing).addAll((List<Object>) entry.getValue());
+            } else if (existing instanceof Map) {
+                merge((Map<Object, Object>) existing, (Map<Object, Object>) entry.getValue());
+            }
+        }
+    }
+}
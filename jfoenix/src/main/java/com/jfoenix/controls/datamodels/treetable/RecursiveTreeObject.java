@@ -25,6 +25,7 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.scene.control.TreeTableColumn;
 
 /**
@@ -87,5 +88,17 @@ public class RecursiveTreeObject<T> {
         this.groupedValueProperty().set(groupedValue);
     }
 
+    /**
+     * aggregated values of the group, mapped by their {@link GroupAggregator}
+     */
+    ObservableMap<Object, Number> groupAggregates;
+
+    public final ObservableMap<Object, Number> getGroupAggregates() {
+        if (groupAggregates == null) {
+            groupAggregates = FXCollections.observableHashMap();
+        }
+        return groupAggregates;
+    }
+
 
 }
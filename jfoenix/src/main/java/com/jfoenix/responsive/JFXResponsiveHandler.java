@@ -21,18 +21,31 @@
 
 package com.jfoenix.responsive;
 
-import javafx.collections.ListChangeListener;
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
 import javafx.css.PseudoClass;
-import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.control.Control;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.layout.Pane;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
- * Responsive handler will scan all nodes in the scene and add a certain
- * pseudo class (style class) to them according to the device ( screen size )
+ * Responsive handler will add a certain pseudo class to the scene root according
+ * to the device (scene width), the pseudo class of the current breakpoint is set on the
+ * root only, use descendant selectors to style the nodes, e.g.
+ * <pre>{@code
+ * .root:small-device .jfx-button { -fx-font-size: 12; }
+ * }</pre>
+ * the breakpoint is updated once the scene is resized, the resize events are debounced
+ * and each update only toggles the pseudo classes of the root.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -45,6 +58,22 @@ public class JFXResponsiveHandler {
     public static final PseudoClass PSEUDO_CLASS_MEDIUM = PseudoClass.getPseudoClass("medium-device");
     public static final PseudoClass PSEUDO_CLASS_LARGE = PseudoClass.getPseudoClass("large-device");
 
+    private static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.millis(100);
+
+    private final Stage stage;
+    private Scene scene;
+    private Parent root;
+    // pseudo class chosen by the user, overrides the breakpoints
+    private final PseudoClass fixedPseudoClass;
+    private final TreeMap<Double, PseudoClass> breakpoints = new TreeMap<>();
+    private final SortedMap<Double, PseudoClass> unmodifiableBreakpoints = Collections.unmodifiableSortedMap(breakpoints);
+    private final ReadOnlyObjectWrapper<PseudoClass> breakpoint = new ReadOnlyObjectWrapper<>(this, "breakpoint");
+    private final PauseTransition debounceTimer = new PauseTransition(DEFAULT_DEBOUNCE_DELAY);
+
+    private final InvalidationListener widthListener = observable -> scheduleUpdate();
+    private final ChangeListener<Parent> rootListener = (o, oldVal, newVal) -> setRoot(newVal);
+    private final ChangeListener<Scene> sceneListener = (o, oldVal, newVal) -> setScene(newVal);
+
     /**
      * Construct a responsive handler for a specified Stage and css class.
      * <p>
@@ -57,67 +86,181 @@ public class JFXResponsiveHandler {
      * </ul>
      * <p>
      * <b>Note:</b> the css class must be chosen by the user according to a device
-     * detection methodology
+     * detection methodology, it's not updated when the stage is resized
      *
      * @param stage       the JavaFX Application stage
      * @param pseudoClass css class for certain device
      */
     public JFXResponsiveHandler(Stage stage, PseudoClass pseudoClass) {
-        scanAllNodes(stage.getScene().getRoot(), pseudoClass);
+        this(stage, null, pseudoClass);
     }
 
     /**
-     * scans all nodes in the scene and apply the css pseduoClass to them.
+     * Construct a responsive handler for a specified Stage, the css class is chosen
+     * according to the scene width using the default breakpoints:
+     * <ul>
+     * <li>{@link JFXResponsiveHandler#PSEUDO_CLASS_EX_SMALL} below 600px</li>
+     * <li>{@link JFXResponsiveHandler#PSEUDO_CLASS_SMALL} from 600px</li>
+     * <li>{@link JFXResponsiveHandler#PSEUDO_CLASS_MEDIUM} from 960px</li>
+     * <li>{@link JFXResponsiveHandler#PSEUDO_CLASS_LARGE} from 1280px</li>
+     * </ul>
      *
-     * @param parent      stage parent node
-     * @param pseudoClass css class for certain device
+     * @param stage the JavaFX Application stage
+     */
+    public JFXResponsiveHandler(Stage stage) {
+        this(stage, null, null);
+    }
+
+    /**
+     * Construct a responsive handler for a specified Scene using the default breakpoints
+     *
+     * @param scene the scene to be handled
+     * @see #JFXResponsiveHandler(Stage)
      */
-    private void scanAllNodes(Parent parent, PseudoClass pseudoClass) {
-        parent.getChildrenUnmodifiable().addListener((ListChangeListener<Node>) c -> {
-            while (c.next()) {
-                if (!c.wasPermutated() && !c.wasUpdated()) {
-                    for (Node addedNode : c.getAddedSubList()) {
-                        if (addedNode instanceof Parent) {
-                            scanAllNodes((Parent) addedNode, pseudoClass);
-                        }
-                    }
-                }
+    public JFXResponsiveHandler(Scene scene) {
+        this(null, scene, null);
+    }
+
+    private JFXResponsiveHandler(Stage stage, Scene scene, PseudoClass pseudoClass) {
+        this.stage = stage;
+        this.fixedPseudoClass = pseudoClass;
+        if (pseudoClass == null) {
+            breakpoints.put(0d, PSEUDO_CLASS_EX_SMALL);
+            breakpoints.put(600d, PSEUDO_CLASS_SMALL);
+            breakpoints.put(960d, PSEUDO_CLASS_MEDIUM);
+            breakpoints.put(1280d, PSEUDO_CLASS_LARGE);
+        }
+        debounceTimer.setOnFinished(event -> updateBreakpoint());
+        if (stage != null) {
+            stage.sceneProperty().addListener(sceneListener);
+            setScene(stage.getScene());
+        } else {
+            setScene(scene);
+        }
+    }
+
+    private void setScene(Scene scene) {
+        if (this.scene != null) {
+            this.scene.widthProperty().removeListener(widthListener);
+            this.scene.rootProperty().removeListener(rootListener);
+        }
+        this.scene = scene;
+        if (scene != null) {
+            scene.widthProperty().addListener(widthListener);
+            scene.rootProperty().addListener(rootListener);
+        }
+        setRoot(scene == null ? null : scene.getRoot());
+        updateBreakpoint();
+    }
+
+    private void setRoot(Parent root) {
+        final PseudoClass pseudoClass = getBreakpoint();
+        if (this.root != null && pseudoClass != null) {
+            this.root.pseudoClassStateChanged(pseudoClass, false);
+        }
+        this.root = root;
+        if (root != null && pseudoClass != null) {
+            root.pseudoClassStateChanged(pseudoClass, true);
+        }
+    }
+
+    private void scheduleUpdate() {
+        if (debounceTimer.getDuration().lessThanOrEqualTo(Duration.ZERO)) {
+            updateBreakpoint();
+        } else {
+            debounceTimer.playFromStart();
+        }
+    }
+
+    private void updateBreakpoint() {
+        debounceTimer.stop();
+        PseudoClass pseudoClass = fixedPseudoClass;
+        if (pseudoClass == null && scene != null) {
+            final Map.Entry<Double, PseudoClass> entry = breakpoints.floorEntry(scene.getWidth());
+            pseudoClass = entry == null ? null : entry.getValue();
+        }
+        final PseudoClass oldPseudoClass = getBreakpoint();
+        if (oldPseudoClass == pseudoClass) {
+            return;
+        }
+        if (root != null) {
+            if (oldPseudoClass != null) {
+                root.pseudoClassStateChanged(oldPseudoClass, false);
             }
-        });
-        for (Node component : parent.getChildrenUnmodifiable()) {
-            if (component instanceof Pane) {
-                ((Pane) component).getChildren().addListener((ListChangeListener<Node>) c -> {
-                    while (c.next()) {
-                        if (!c.wasPermutated() && !c.wasUpdated()) {
-                            for (Node addedNode : c.getAddedSubList()) {
-                                if (addedNode instanceof Parent) {
-                                    scanAllNodes((Parent) addedNode, pseudoClass);
-                                }
-                            }
-                        }
-                    }
-                });
-                //if the component is a container, scan its children
-                scanAllNodes((Pane) component, pseudoClass);
-            } else if (component instanceof ScrollPane) {
-                ((ScrollPane) component).contentProperty().addListener((o, oldVal, newVal) -> {
-                    scanAllNodes((Parent) newVal, pseudoClass);
-                });
-                //if the component is a container, scan its children
-                if (((ScrollPane) component).getContent() instanceof Parent) {
-
-                    scanAllNodes((Parent) ((ScrollPane) component).getContent(), pseudoClass);
-                }
-            } else if (component instanceof Control) {
-                //if the component is an instance of IInputControl, add to list
-                component.pseudoClassStateChanged(PSEUDO_CLASS_EX_SMALL,
-                    pseudoClass == PSEUDO_CLASS_EX_SMALL);
-                component.pseudoClassStateChanged(PSEUDO_CLASS_SMALL, pseudoClass == PSEUDO_CLASS_SMALL);
-                component.pseudoClassStateChanged(PSEUDO_CLASS_MEDIUM, pseudoClass == PSEUDO_CLASS_MEDIUM);
-                component.pseudoClassStateChanged(PSEUDO_CLASS_LARGE, pseudoClass == PSEUDO_CLASS_LARGE);
+            if (pseudoClass != null) {
+                root.pseudoClassStateChanged(pseudoClass, true);
             }
         }
+        breakpoint.set(pseudoClass);
+    }
+
+    /**
+     * adds a breakpoint, the css class is applied when the scene width is
+     * greater than or equal to the specified width and lower than the next breakpoint
+     *
+     * @param minWidth    minimum scene width of the breakpoint
+     * @param pseudoClass css class of the breakpoint
+     */
+    public void addBreakpoint(double minWidth, PseudoClass pseudoClass) {
+        breakpoints.put(minWidth, pseudoClass);
+        updateBreakpoint();
+    }
+
+    /**
+     * removes the breakpoint starting at the specified width
+     *
+     * @param minWidth minimum scene width of the breakpoint
+     */
+    public void removeBreakpoint(double minWidth) {
+        breakpoints.remove(minWidth);
+        updateBreakpoint();
+    }
+
+    /**
+     * removes all breakpoints
+     */
+    public void clearBreakpoints() {
+        breakpoints.clear();
+        updateBreakpoint();
+    }
+
+    /**
+     * @return the breakpoints css classes by their minimum scene width
+     */
+    public SortedMap<Double, PseudoClass> getBreakpoints() {
+        return unmodifiableBreakpoints;
+    }
+
+    /**
+     * stops updating the scene root and removes the css class of the current breakpoint
+     */
+    public void detach() {
+        debounceTimer.stop();
+        if (stage != null) {
+            stage.sceneProperty().removeListener(sceneListener);
+        }
+        setScene(null);
+    }
+
+    /**
+     * the css class of the current breakpoint, applied to the scene root
+     */
+    public final ReadOnlyObjectProperty<PseudoClass> breakpointProperty() {
+        return breakpoint.getReadOnlyProperty();
+    }
+
+    public final PseudoClass getBreakpoint() {
+        return breakpoint.get();
     }
 
+    /**
+     * delay used to debounce the scene resize events, by default it's set to 100ms
+     */
+    public final Duration getDebounceDelay() {
+        return debounceTimer.getDuration();
+    }
 
+    public final void setDebounceDelay(Duration delay) {
+        debounceTimer.setDuration(delay);
+    }
 }
@@ -30,6 +30,7 @@ import javafx.animation.KeyValue;
 import javafx.animation.ParallelTransition;
 import javafx.animation.Timeline;
 import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
@@ -59,7 +60,7 @@ public class JFXAutoCompletePopupSkin<T> implements Skin<JFXAutoCompletePopup<T>
 
     public JFXAutoCompletePopupSkin(JFXAutoCompletePopup<T> control) {
         this.control = control;
-        suggestionList = new ListView<T>(control.getFilteredSuggestions()){
+        suggestionList = new ListView<T>(getSuggestions()){
             @Override
             protected void layoutChildren() {
                 super.layoutChildren();
@@ -74,10 +75,17 @@ public class JFXAutoCompletePopupSkin<T> implements Skin<JFXAutoCompletePopup<T>
         };
         suggestionList.setFixedCellSize(control.getFixedCellSize());
         control.fixedCellSizeProperty().addListener(observable -> suggestionList.setFixedCellSize(control.getFixedCellSize()));
-        suggestionList.getItems().addListener((InvalidationListener) observable -> {
+        final InvalidationListener itemsListener = observable -> {
             itemChanged = true;
             updateListHeight();
+        };
+        suggestionList.getItems().addListener(itemsListener);
+        suggestionList.itemsProperty().addListener((o, oldVal, newVal) -> {
+            oldVal.removeListener(itemsListener);
+            newVal.addListener(itemsListener);
+            itemsListener.invalidated(newVal);
         });
+        control.suggestionProviderProperty().addListener(observable -> suggestionList.setItems(getSuggestions()));
         suggestionList.getStyleClass().add("autocomplete-list");
         control.suggestionsCellFactoryProperty().addListener((o, oldVal, newVal) -> {
             if (newVal != null) {
@@ -163,6 +171,11 @@ public class JFXAutoCompletePopupSkin<T> implements Skin<JFXAutoCompletePopup<T>
         }
     }
 
+    private ObservableList<T> getSuggestions() {
+        return control.getSuggestionProvider() == null ?
+            control.getFilteredSuggestions() : control.getProvidedSuggestions();
+    }
+
     private void updateListHeight() {
         final double height = Math.min(suggestionList.getItems().size(), getSkinnable().getCellLimit()) * suggestionList.getFixedCellSize();
         suggestionList.setPrefHeight(height + suggestionList.getFixedCellSize() / 2);
@@ -35,6 +35,7 @@ import javafx.collections.WeakListChangeListener;
 import javafx.css.PseudoClass;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.geometry.VPos;
 import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
@@ -46,11 +47,19 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Window;
 import javafx.util.StringConverter;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * JFXChipArea is the material design implementation of chip Input.
@@ -70,28 +79,58 @@ public class JFXChipViewSkin<T> extends BehaviorSkinBase<JFXChipView<T>, JFXChip
     private FakeFocusTextArea editor;
     private final ChipsAutoComplete<T> autoCompletePopup;
 
+    private static final int TEXT_WIDTHS_CACHE_SIZE = 256;
+    // editor text widths, measured with a single text node
+    private final Text measureText = new Text();
+    private final LinkedHashMap<TextMeasure, Double> textWidths = new LinkedHashMap<TextMeasure, Double>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TextMeasure, Double> eldest) {
+            return size() > TEXT_WIDTHS_CACHE_SIZE;
+        }
+    };
+
     private boolean moveToNewLine = false;
     private boolean editorOnNewLine = true;
     private double availableWidth;
     private double requiredWidth;
 
+    // chips removed by the current change, reused if their items are added back (e.g. setAll or sort)
+    private final IdentityHashMap<T, ArrayDeque<JFXChip<T>>> recycledChips = new IdentityHashMap<>();
+
+    // the chips are the first children of the flow pane, in the same order as the items
+    @SuppressWarnings("unchecked")
     private final ListChangeListener<T> chipsChangeListeners = change -> {
+        final ObservableList<Node> children = root.getChildren();
         while (change.next()) {
-            for (T item : change.getRemoved()) {
-                for (int i = root.getChildren().size() - 2; i >= 0; i--) {
-                    Node child = root.getChildren().get(i);
-                    if (child instanceof JFXChip) {
-                        if (((JFXChip<?>) child).getItem() == item) {
-                            root.getChildren().remove(i);
-                            break;
-                        }
+            final int from = change.getFrom();
+            root.invalidateLayout(from);
+            if (change.wasPermutated()) {
+                final Node[] permuted = new Node[change.getTo() - from];
+                for (int i = from; i < change.getTo(); i++) {
+                    permuted[change.getPermutation(i) - from] = children.get(i);
+                }
+                children.remove(from, change.getTo());
+                children.addAll(from, Arrays.asList(permuted));
+            } else {
+                final int to = from + change.getRemovedSize();
+                for (int i = from; i < to; i++) {
+                    final JFXChip<T> chip = (JFXChip<T>) children.get(i);
+                    recycledChips.computeIfAbsent(chip.getItem(), item -> new ArrayDeque<>()).add(chip);
+                }
+                if (to > from) {
+                    children.remove(from, to);
+                }
+                if (change.wasAdded()) {
+                    final List<Node> chips = new ArrayList<>(change.getAddedSize());
+                    for (T item : change.getAddedSubList()) {
+                        final ArrayDeque<JFXChip<T>> recycled = recycledChips.get(item);
+                        chips.add(recycled == null || recycled.isEmpty() ? createChip(item) : recycled.poll());
                     }
+                    children.addAll(from, chips);
                 }
             }
-            for (T item : change.getAddedSubList()) {
-                createChip(item);
-            }
         }
+        recycledChips.clear();
     };
 
     private final ScrollPane scrollPane;
@@ -132,7 +171,7 @@ public class JFXChipViewSkin<T> extends BehaviorSkinBase<JFXChipView<T>, JFXChip
 
         // create initial chips
         for (T item : control.getChips()) {
-            createChip(item);
+            root.getChildren().add(root.getChildren().size() - 1, createChip(item));
         }
         control.getChips().addListener(new WeakListChangeListener<>(chipsChangeListeners));
 
@@ -255,33 +294,82 @@ public class JFXChipViewSkin<T> extends BehaviorSkinBase<JFXChipView<T>, JFXChip
     }
 
     // these methods are called inside the chips items change listener
-    private void createChip(T item) {
-        JFXChip<T> chip;
+    private JFXChip<T> createChip(T item) {
         try {
             if (getSkinnable().getChipFactory() != null) {
-                chip = getSkinnable().getChipFactory().apply(getSkinnable(), item);
+                return getSkinnable().getChipFactory().apply(getSkinnable(), item);
             } else {
-                chip = new JFXDefaultChip<>(getSkinnable(), item);
+                return new JFXDefaultChip<>(getSkinnable(), item);
             }
         } catch (Exception e) {
             throw new RuntimeException("can't create chip for item '" + item +
                                        "' make sure to override the string converter and return null if text input is not valid.", e);
         }
-        int size = root.getChildren().size();
-        root.getChildren().add(size - 1, chip);
     }
 
     private double computeTextContentWidth(TextInputControl editor) {
-        Text text = new Text(editor.getText());
-        text.setFont(editor.getFont());
-        text.applyCss();
-        return text.getLayoutBounds().getWidth();
+        final TextMeasure measure = new TextMeasure(editor.getFont(), editor.getText());
+        Double width = textWidths.get(measure);
+        if (width == null) {
+            measureText.setText(measure.text);
+            measureText.setFont(measure.font);
+            width = measureText.getLayoutBounds().getWidth();
+            textWidths.put(measure, width);
+        }
+        return width;
     }
 
+    private static final class TextMeasure {
+        private final Font font;
+        private final String text;
 
+        TextMeasure(Font font, String text) {
+            this.font = font;
+            this.text = text == null ? "" : text;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TextMeasure)) {
+                return false;
+            }
+            final TextMeasure other = (TextMeasure) obj;
+            return text.equals(other.text) && Objects.equals(font, other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + Objects.hashCode(font);
+        }
+    }
+
+
+    /**
+     * flow pane that keeps the layout of its chips, so only the chips after an insertion
+     * or removal point are repositioned. The chips are laid out horizontally from the top.
+     */
     private class CustomFlowPane extends FlowPane {
         double initOffset = 8;
 
+        // cached layout, valid for the chips before layoutFrom
+        private int layoutFrom = 0;
+        private int layoutCount = 0;
+        private double layoutWidth = -1;
+        private double layoutHgap;
+        private double layoutVgap;
+        private Insets layoutInsets;
+        private Pos layoutAlignment;
+        private VPos layoutRowValignment;
+        private double[] chipWidths = new double[0];
+        private double[] chipHeights = new double[0];
+        private Insets[] chipMargins = new Insets[0];
+        private int[] chipRows = new int[0];
+        private int[] rowStarts = new int[0];
+        private double[] rowYs = new double[0];
+
         {
             addEventHandler(MouseEvent.MOUSE_CLICKED, event -> ensureVisible(editor));
         }
@@ -296,12 +384,136 @@ public class JFXChipViewSkin<T> extends BehaviorSkinBase<JFXChipView<T>, JFXChip
         }
 
 
+        /**
+         * invalidates the layout of the chips starting at the specified index
+         */
+        void invalidateLayout(int index) {
+            layoutFrom = Math.min(layoutFrom, index);
+            requestLayout();
+        }
+
         @Override
         protected void layoutChildren() {
-            super.layoutChildren();
+            layoutChips();
             updateEditorPosition();
         }
 
+        private void layoutChips() {
+            final List<Node> chips = getManagedChildren();
+            final int count = chips.size();
+            final Insets insets = getInsets();
+            final double left = snappedLeftInset();
+            final double insideWidth = getWidth() - left - snappedRightInset();
+            final double hgap = snapSpace(getHgap());
+            final double vgap = snapSpace(getVgap());
+            final Pos alignment = getAlignment();
+            final VPos chipAlignment = getRowVAlignmentInternal();
+
+            int from = Math.min(layoutFrom, Math.min(layoutCount, count));
+            if (insideWidth != layoutWidth || hgap != layoutHgap || vgap != layoutVgap || !insets.equals(layoutInsets)
+                || alignment != layoutAlignment || chipAlignment != layoutRowValignment) {
+                from = 0;
+            }
+            if (chipWidths.length < count) {
+                final int capacity = Math.max(count, chipWidths.length * 2);
+                chipWidths = Arrays.copyOf(chipWidths, capacity);
+                chipHeights = Arrays.copyOf(chipHeights, capacity);
+                chipMargins = Arrays.copyOf(chipMargins, capacity);
+                chipRows = Arrays.copyOf(chipRows, capacity);
+                rowStarts = Arrays.copyOf(rowStarts, capacity);
+                rowYs = Arrays.copyOf(rowYs, capacity);
+            }
+            // chips that changed size or margin are laid out again
+            for (int i = 0; i < from; i++) {
+                final Node chip = chips.get(i);
+                if (computeChipWidth(chip) != chipWidths[i] || computeChipHeight(chip) != chipHeights[i]
+                    || !Objects.equals(getMargin(chip), chipMargins[i])) {
+                    from = i;
+                    break;
+                }
+            }
+            // the row of the last valid chip is aligned again, as its height may change
+            int row = 0;
+            double y = snappedTopInset();
+            if (from > 0) {
+                row = chipRows[from - 1];
+                from = rowStarts[row];
+                y = rowYs[row];
+            }
+
+            final HPos rowAlignment = alignment == null ? HPos.LEFT : alignment.getHpos();
+            int start = from;
+            while (start < count) {
+                // collect the chips of the row
+                double rowWidth = 0;
+                double rowHeight = 0;
+                int end = start;
+                while (end < count) {
+                    final Node chip = chips.get(end);
+                    final double width = computeChipWidth(chip);
+                    if (end > start && rowWidth + hgap + width > insideWidth) {
+                        break;
+                    }
+                    final double height = computeChipHeight(chip);
+                    rowWidth += (end > start ? hgap : 0) + width;
+                    rowHeight = Math.max(rowHeight, height);
+                    chipWidths[end] = width;
+                    chipHeights[end] = height;
+                    chipMargins[end] = getMargin(chip);
+                    chipRows[end] = row;
+                    end++;
+                }
+                rowStarts[row] = start;
+                rowYs[row] = y;
+
+                double x = left + computeXOffset(insideWidth, rowWidth, rowAlignment);
+                for (int i = start; i < end; i++) {
+                    final Node chip = chips.get(i);
+                    layoutInArea(chip, x, y, chipWidths[i], rowHeight, 0, getMargin(chip), HPos.LEFT, chipAlignment);
+                    x += chipWidths[i] + hgap;
+                }
+                y += rowHeight + vgap;
+                row++;
+                start = end;
+            }
+
+            layoutFrom = count;
+            layoutCount = count;
+            layoutWidth = insideWidth;
+            layoutHgap = hgap;
+            layoutVgap = vgap;
+            layoutInsets = insets;
+            layoutAlignment = alignment;
+            layoutRowValignment = chipAlignment;
+        }
+
+        private double computeChipWidth(Node chip) {
+            final Insets margin = getMargin(chip);
+            final double width = snapSize(boundedSize(chip.minWidth(-1), chip.prefWidth(-1), chip.maxWidth(-1)));
+            return margin == null ? width : width + snapSpace(margin.getLeft()) + snapSpace(margin.getRight());
+        }
+
+        private double computeChipHeight(Node chip) {
+            final Insets margin = getMargin(chip);
+            final double height = snapSize(boundedSize(chip.minHeight(-1), chip.prefHeight(-1), chip.maxHeight(-1)));
+            return margin == null ? height : height + snapSpace(margin.getTop()) + snapSpace(margin.getBottom());
+        }
+
+        private double boundedSize(double min, double pref, double max) {
+            return Math.min(Math.max(pref, min), Math.max(min, max));
+        }
+
+        private double computeXOffset(double width, double contentWidth, HPos alignment) {
+            switch (alignment) {
+                case CENTER:
+                    return (width - contentWidth) / 2;
+                case RIGHT:
+                    return width - contentWidth;
+                default:
+                    return 0;
+            }
+        }
+
         @Override
         protected double computePrefHeight(double forWidth) {
             editor.setManaged(true);
@@ -83,6 +83,19 @@ public class SVGGlyph extends Pane {
      * @param fill           svg color
      */
     public SVGGlyph(int glyphId, String name, String svgPathContent, Paint fill) {
+        this(glyphId, name, createShape(svgPathContent), fill);
+    }
+
+    /**
+     * Constructs SVGGlyph node for an already parsed svg shape, used by {@link SVGGlyphLoader}
+     * to share the glyph geometry cached in {@link SVGGlyphCache}
+     *
+     * @param glyphId integer represents the glyph id
+     * @param name    glyph name
+     * @param shape   svg shape, it must not be modified as it can be shared between glyphs
+     * @param fill    svg color
+     */
+    SVGGlyph(int glyphId, String name, SVGPath shape, Paint fill) {
         this.glyphId = glyphId;
         this.name = name;
         getStyleClass().add(DEFAULT_STYLE_CLASS);
@@ -90,18 +103,16 @@ public class SVGGlyph extends Pane {
             new BackgroundFill(getFill() == null ? Color.BLACK : getFill(), null, null))));
 
         shapeProperty().addListener(observable -> {
-            Shape shape = getShape();
-            if (getShape() != null) {
-                widthHeightRatio = shape.prefWidth(-1) / shape.prefHeight(-1);
+            Shape currentShape = getShape();
+            if (currentShape != null) {
+                widthHeightRatio = currentShape.prefWidth(-1) / currentShape.prefHeight(-1);
                 if (getSize() != Region.USE_COMPUTED_SIZE) {
                     setSizeRatio(getSize());
                 }
             }
         });
 
-        if (svgPathContent != null && !svgPathContent.isEmpty()) {
-            SVGPath shape = new SVGPath();
-            shape.setContent(svgPathContent);
+        if (shape != null) {
             setShape(shape);
             setFill(fill);
         }
@@ -109,6 +120,15 @@ public class SVGGlyph extends Pane {
         setPrefSize(DEFAULT_PREF_SIZE, DEFAULT_PREF_SIZE);
     }
 
+    private static SVGPath createShape(String svgPathContent) {
+        if (svgPathContent == null || svgPathContent.isEmpty()) {
+            return null;
+        }
+        SVGPath shape = new SVGPath();
+        shape.setContent(svgPathContent);
+        return shape;
+    }
+
     /**
      * @return current svg id
      */
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.svg;
+
+import javafx.scene.shape.SVGPath;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SVGGlyphCache keeps the parsed geometry of the glyphs loaded by {@link SVGGlyphLoader},
+ * so the path data of a glyph is parsed once and shared by all the {@link SVGGlyph} nodes
+ * created for it.
+ * <p>
+ * the cache holds a limited number of glyphs, evicted in least recently used order.
+ * <b>Note:</b> cached shapes are shared between glyphs, they must not be modified.
+ * <p>
+ * this class is thread safe.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SVGGlyphCache {
+
+    private static final SVGGlyphCache DEFAULT = new SVGGlyphCache(1024);
+
+    private final LinkedHashMap<String, SVGPath> shapes = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxEntries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * @return the cache used by {@link SVGGlyphLoader}
+     */
+    public static SVGGlyphCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * creates a cache holding at most the specified number of glyphs
+     *
+     * @param maxEntries maximum number of cached glyphs
+     */
+    public SVGGlyphCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * returns the shape of the specified glyph, parsing its path data if it's not cached.
+     * a cached shape parsed from other path data is replaced, e.g. if the glyph was
+     * invalidated while the old path data was being parsed
+     *
+     * @param glyphId        key of the glyph
+     * @param svgPathContent path data of the glyph
+     * @return shared shape of the glyph
+     */
+    public SVGPath getShape(String glyphId, String svgPathContent) {
+        synchronized (this) {
+            final SVGPath shape = shapes.get(glyphId);
+            if (shape != null && svgPathContent.equals(shape.getContent())) {
+                hitCount++;
+                return shape;
+            }
+            missCount++;
+        }
+        // parse the path data outside the lock
+        final SVGPath shape = new SVGPath();
+        shape.setContent(svgPathContent);
+        shape.getLayoutBounds();
+        synchronized (this) {
+            final SVGPath cached = shapes.get(glyphId);
+            if (cached != null && svgPathContent.equals(cached.getContent())) {
+                return cached;
+            }
+            shapes.put(glyphId, shape);
+            trim();
+        }
+        return shape;
+    }
+
+    /**
+     * removes the specified glyph from the cache
+     *
+     * @param glyphId key of the glyph
+     */
+    public synchronized void invalidate(String glyphId) {
+        shapes.remove(glyphId);
+    }
+
+    /**
+     * removes all cached glyphs
+     */
+    public synchronized void clear() {
+        shapes.clear();
+    }
+
+    private void trim() {
+        final Iterator<Map.Entry<String, SVGPath>> iterator = shapes.entrySet().iterator();
+        while (shapes.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * @return the maximum number of cached glyphs
+     */
+    public synchronized int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * sets the maximum number of cached glyphs, evicting glyphs if needed
+     *
+     * @param maxEntries maximum number of cached glyphs
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        trim();
+    }
+
+    /**
+     * @return the number of cached glyphs
+     */
+    public synchronized int getSize() {
+        return shapes.size();
+    }
+
+    /**
+     * @return the number of requests served from the cache
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of requests that had to parse the glyph path data
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of glyphs evicted from the cache
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
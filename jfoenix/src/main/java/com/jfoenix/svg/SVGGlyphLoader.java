@@ -21,29 +21,33 @@
 
 package com.jfoenix.svg;
 
+import com.jfoenix.utils.JFoenixExecutors;
 import javafx.beans.binding.Bindings;
 import javafx.scene.paint.Color;
 import javafx.scene.transform.Scale;
 import javafx.scene.transform.Translate;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.*;
-import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.Files;
-import java.util.HashMap;
+import java.net.URLDecoder;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * will load icomoon svg font file, it will create a map of the
  * available svg glyphs. the user can retrieve the svg glyph using its name.
+ * <p>
+ * the path data of each glyph is parsed once and cached in {@link SVGGlyphCache#getDefault()},
+ * the glyphs created for the same name share the cached geometry.
+ * <p>
+ * fonts are read as a stream, only the glyph names and path data are kept in memory,
+ * so fonts can be loaded from any url (e.g. jar resources) or input stream.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -51,7 +55,7 @@ import java.util.Set;
  */
 public class SVGGlyphLoader {
 
-    private static final HashMap<String, SVGGlyphBuilder> glyphsMap = new HashMap<>();
+    private static final ConcurrentHashMap<String, SVGGlyphBuilder> glyphsMap = new ConcurrentHashMap<>();
 
 
     public static SVGGlyph getGlyph(String glyphName) {
@@ -85,86 +89,116 @@ public class SVGGlyphLoader {
     }
 
     /**
-     * will load SVG icons from icomoon font file (e.g font.svg)
+     * will load SVG icons from icomoon font file (e.g font.svg), the file name
+     * will be used as a prefix when storing SVG icons in the map
      *
      * @param url of the svg font file
      * @throws IOException
      */
     public static void loadGlyphsFont(URL url) throws IOException {
-        try {
-            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-            docBuilder.setEntityResolver((publicId, systemId) -> {
-                // disable dtd entites at runtime
-                return new InputSource(new StringReader(""));
-            });
-
-            File svgFontFile = new File(url.toURI());
-            Document doc = docBuilder.parse(svgFontFile);
-            doc.getDocumentElement().normalize();
-
-            NodeList glyphsList = doc.getElementsByTagName("glyph");
-            for (int i = 0; i < glyphsList.getLength(); i++) {
-                Node glyph = glyphsList.item(i);
-                Node glyphName = glyph.getAttributes().getNamedItem("glyph-name");
-                if (glyphName == null) {
-                    continue;
-                }
-
-                String glyphId = glyphName.getNodeValue();
-                SVGGlyphBuilder glyphPane = new SVGGlyphBuilder(i,
-                    glyphId,
-                    glyph.getAttributes()
-                        .getNamedItem("d")
-                        .getNodeValue());
-                glyphsMap.put(svgFontFile.getName() + "." + glyphId, glyphPane);
-            }
-        } catch (ParserConfigurationException | SAXException | URISyntaxException e) {
-            e.printStackTrace();
-        }
+        loadGlyphsFont(url.openStream(), getFileName(url));
     }
 
     /**
-     * will load SVG icons from input stream
+     * will load SVG icons from input stream, the stream is closed once loaded
      *
      * @param stream    input stream of svg font file
      * @param keyPrefix will be used as a prefix when storing SVG icons in the map
      * @throws IOException
      */
     public static void loadGlyphsFont(InputStream stream, String keyPrefix) throws IOException {
-        try {
-            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-            docBuilder.setEntityResolver((publicId, systemId) -> {
-                // disable dtd entites at runtime
-                return new InputSource(new StringReader(""));
-            });
-
-            Document doc = docBuilder.parse(stream);
-            doc.getDocumentElement().normalize();
-
-            NodeList glyphsList = doc.getElementsByTagName("glyph");
-            for (int i = 0; i < glyphsList.getLength(); i++) {
-                Node glyph = glyphsList.item(i);
-                Node glyphName = glyph.getAttributes().getNamedItem("glyph-name");
-                if (glyphName == null) {
-                    continue;
+        try (InputStream input = stream instanceof BufferedInputStream ? stream : new BufferedInputStream(stream)) {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            // disable dtd entities
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                int index = 0;
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT
+                        || !"glyph".equals(reader.getLocalName())) {
+                        continue;
+                    }
+                    final int glyphIndex = index++;
+                    String glyphId = reader.getAttributeValue(null, "glyph-name");
+                    if (glyphId == null) {
+                        continue;
+                    }
+                    putGlyph(new SVGGlyphBuilder(keyPrefix + "." + glyphId,
+                        glyphIndex,
+                        glyphId,
+                        reader.getAttributeValue(null, "d")));
                 }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("failed to load svg font '" + keyPrefix + "'", e);
+        }
+    }
 
-                String glyphId = glyphName.getNodeValue();
-                SVGGlyphBuilder glyphPane = new SVGGlyphBuilder(i,
-                    glyphId,
-                    glyph.getAttributes()
-                        .getNamedItem("d")
-                        .getNodeValue());
-                glyphsMap.put(keyPrefix + "." + glyphId, glyphPane);
+    /**
+     * will load SVG icons from icomoon font file on a background thread
+     *
+     * @param url of the svg font file
+     * @return future completed once the icons are loaded
+     * @see #loadGlyphsFont(URL)
+     */
+    public static CompletableFuture<Void> loadGlyphsFontAsync(URL url) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loadGlyphsFont(url);
+            } catch (IOException e) {
+                throw new CompletionException(e);
             }
-            stream.close();
-        } catch (ParserConfigurationException | SAXException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+        }, JFoenixExecutors.executor());
+    }
+
+    /**
+     * will load SVG icons from input stream on a background thread
+     *
+     * @param stream    input stream of svg font file
+     * @param keyPrefix will be used as a prefix when storing SVG icons in the map
+     * @return future completed once the icons are loaded
+     * @see #loadGlyphsFont(InputStream, String)
+     */
+    public static CompletableFuture<Void> loadGlyphsFontAsync(InputStream stream, String keyPrefix) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loadGlyphsFont(stream, keyPrefix);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, JFoenixExecutors.executor());
+    }
+
+    /**
+     * will load SVG icons from several icomoon font files in parallel
+     *
+     * @param urls of the svg font files
+     * @return future completed once all the icons are loaded
+     */
+    public static CompletableFuture<Void> loadGlyphsFontsAsync(URL... urls) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            futures[i] = loadGlyphsFontAsync(urls[i]);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * @return the decoded last segment of the url path, as the name of the file it points to
+     */
+    private static String getFileName(URL url) {
+        String path = url.getPath();
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        try {
+            // '+' is not an escaped space in a path
+            return URLDecoder.decode(name.replace("+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return name;
         }
     }
 
@@ -199,6 +233,14 @@ public class SVGGlyphLoader {
      */
     public static void clear() {
         glyphsMap.clear();
+        SVGGlyphCache.getDefault().clear();
+    }
+
+    private static void putGlyph(SVGGlyphBuilder builder) {
+        if (glyphsMap.put(builder.key, builder) != null) {
+            // drop the geometry of the replaced glyph
+            SVGGlyphCache.getDefault().invalidate(builder.key);
+        }
     }
 
     private static String extractSvgPath(String svgString) {
@@ -230,18 +272,23 @@ public class SVGGlyphLoader {
     }
 
     private static final class SVGGlyphBuilder {
+        private final String key;
         private final int glyphId;
         private final String name;
         private final String svgPathContent;
 
-        SVGGlyphBuilder(int glyphId, String name, String svgPathContent) {
+        SVGGlyphBuilder(String key, int glyphId, String name, String svgPathContent) {
+            this.key = key;
             this.glyphId = glyphId;
             this.name = name;
             this.svgPathContent = svgPathContent;
         }
 
         SVGGlyph build() {
-            return new SVGGlyph(glyphId, name, svgPathContent, Color.BLACK);
+            if (svgPathContent == null || svgPathContent.isEmpty()) {
+                return new SVGGlyph(glyphId, name, svgPathContent, Color.BLACK);
+            }
+            return new SVGGlyph(glyphId, name, SVGGlyphCache.getDefault().getShape(key, svgPathContent), Color.BLACK);
         }
     }
 }
@@ -57,6 +57,10 @@ public class CacheMemento {
         }
     }
 
+    public Node getNode() {
+        return node;
+    }
+
     public void restore() {
         if (isCached.getAndSet(false)) {
             node.setCache(cache);
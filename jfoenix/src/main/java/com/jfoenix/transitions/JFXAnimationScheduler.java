@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1>Shared animation scheduler</h1>
+ * JFXAnimationScheduler drives all the running {@link JFXAnimationTimer} instances from
+ * a single {@link AnimationTimer}, instead of registering one timer per animation with the toolkit.
+ * <p>
+ * animations whose nodes are all detached from the scene or hidden are skipped until they're
+ * shown again or their duration elapses. if a frame budget is set, animations handled once the
+ * budget is exceeded are moved to their end values, and the frame is counted as dropped.
+ * <p>
+ * the scheduler is used from the FX thread, timers started or stopped from other threads
+ * do it on the FX thread.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class JFXAnimationScheduler {
+
+    // each timer keeps its index in this list, so it's removed without searching
+    private static final List<JFXAnimationTimer> TIMERS = new ArrayList<>();
+    // copy of the timers handled by the current frame, reused between frames
+    private static JFXAnimationTimer[] frameTimers = new JFXAnimationTimer[16];
+
+    private static final AnimationTimer PULSE = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            frame(now);
+        }
+    };
+    private static boolean pulsing = false;
+
+    private static long frameBudget = 0;
+
+    private static int lastFrameAnimations;
+    private static long lastFrameTime;
+    private static long totalFrames;
+    private static long droppedFrames;
+    private static long degradedAnimations;
+
+    private JFXAnimationScheduler() {
+    }
+
+    static void register(JFXAnimationTimer timer) {
+        if (timer.schedulerIndex >= 0) {
+            return;
+        }
+        timer.schedulerIndex = TIMERS.size();
+        TIMERS.add(timer);
+        if (!pulsing) {
+            pulsing = true;
+            PULSE.start();
+        }
+    }
+
+    static void unregister(JFXAnimationTimer timer) {
+        final int index = timer.schedulerIndex;
+        if (index < 0) {
+            return;
+        }
+        // the last timer takes the place of the removed one
+        final JFXAnimationTimer last = TIMERS.remove(TIMERS.size() - 1);
+        if (last != timer) {
+            TIMERS.set(index, last);
+            last.schedulerIndex = index;
+        }
+        timer.schedulerIndex = -1;
+        if (TIMERS.isEmpty() && pulsing) {
+            pulsing = false;
+            PULSE.stop();
+        }
+    }
+
+    private static void frame(long now) {
+        final long frameStart = System.nanoTime();
+        final int count = TIMERS.size();
+        if (frameTimers.length < count) {
+            frameTimers = new JFXAnimationTimer[Math.max(count, frameTimers.length * 2)];
+        }
+        // timers can be stopped or started while handling the frame
+        TIMERS.toArray(frameTimers);
+        boolean dropped = false;
+        for (int i = 0; i < count; i++) {
+            final JFXAnimationTimer timer = frameTimers[i];
+            frameTimers[i] = null;
+            if (timer.schedulerIndex < 0) {
+                continue;
+            }
+            if (dropped) {
+                degradedAnimations++;
+                timer.finish();
+                continue;
+            }
+            if (!isShowing(timer.getNodes()) && !timer.skipFrame(now)) {
+                continue;
+            }
+            timer.handle(now);
+            if (frameBudget > 0 && System.nanoTime() - frameStart > frameBudget) {
+                dropped = i < count - 1;
+            }
+        }
+        lastFrameAnimations = count;
+        lastFrameTime = System.nanoTime() - frameStart;
+        totalFrames++;
+        if (dropped) {
+            droppedFrames++;
+        }
+    }
+
+    /**
+     * @return false if all the nodes are detached from the scene or hidden,
+     * true if there's any showing node or no known nodes
+     */
+    private static boolean isShowing(Node[] nodes) {
+        if (nodes.length == 0) {
+            return true;
+        }
+        for (Node node : nodes) {
+            if (node.getScene() == null) {
+                continue;
+            }
+            Node parent = node;
+            while (parent != null && parent.isVisible()) {
+                parent = parent.getParent();
+            }
+            if (parent == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * sets the time that can be spent handling the animations of one frame, animations
+     * handled after the budget is exceeded are moved to their end values
+     *
+     * @param budget of a frame, null or zero for no budget
+     */
+    public static void setFrameBudget(Duration budget) {
+        frameBudget = budget == null ? 0 : (long) (budget.toMillis() * 1_000_000);
+    }
+
+    /**
+     * @return the time that can be spent handling the animations of one frame,
+     * or zero if there's no budget
+     */
+    public static Duration getFrameBudget() {
+        return Duration.millis(frameBudget / 1e6);
+    }
+
+    /**
+     * @return the number of running animations
+     */
+    public static int getActiveAnimations() {
+        return TIMERS.size();
+    }
+
+    /**
+     * @return the number of animations handled by the last frame
+     */
+    public static int getLastFrameAnimations() {
+        return lastFrameAnimations;
+    }
+
+    /**
+     * @return the time spent handling the animations of the last frame, in milliseconds
+     */
+    public static double getLastFrameTime() {
+        return lastFrameTime / 1e6;
+    }
+
+    /**
+     * @return the number of frames handled
+     */
+    public static long getTotalFrames() {
+        return totalFrames;
+    }
+
+    /**
+     * @return the number of frames that exceeded the frame budget
+     */
+    public static long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * @return the number of animations moved to their end values because the frame budget was exceeded
+     */
+    public static long getDegradedAnimations() {
+        return degradedAnimations;
+    }
+}
@@ -21,14 +21,24 @@
 
 package com.jfoenix.transitions;
 
+import com.jfoenix.utils.JFXUtilities;
 import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableFloatValue;
+import javafx.beans.value.WritableIntegerValue;
+import javafx.beans.value.WritableLongValue;
 import javafx.beans.value.WritableValue;
 import javafx.scene.Node;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -37,6 +47,9 @@ import java.util.function.Supplier;
  * Custom AnimationTimer that can be created the same way as a timeline,
  * however it doesn't behave the same yet. it only animates in one direction,
  * it doesn't support animation 0 -> 1 -> 0.5
+ * <p>
+ * running timers are driven by the shared {@link JFXAnimationScheduler} instead of
+ * being registered with the toolkit one by one.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -45,11 +58,16 @@ import java.util.function.Supplier;
 
 public class JFXAnimationTimer extends AnimationTimer {
 
-    private final Set<AnimationHandler> animationHandlers = new HashSet<>();
+    // iterated by index on each frame, to avoid allocating iterators
+    private final List<AnimationHandler> animationHandlers = new ArrayList<>();
     private long startTime = -1;
     private boolean running = false;
     private final List<CacheMemento> caches = new ArrayList<>();
     private double totalElapsedMilliseconds;
+    // animated nodes, used by the scheduler to skip hidden animations
+    private Node[] nodes = new Node[0];
+    // index of this timer in the scheduler, -1 if it's not scheduled
+    int schedulerIndex = -1;
 
 
     public JFXAnimationTimer(JFXKeyFrame... keyFrames) {
@@ -85,17 +103,30 @@ public class JFXAnimationTimer extends AnimationTimer {
         animationHandlers.remove(handler);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * if called from another thread, the timer is started on the FX thread
+     */
     @Override
     public void start() {
-        super.start();
+        if (!Platform.isFxApplicationThread()) {
+            JFXUtilities.runInFX(this::start);
+            return;
+        }
+        JFXAnimationScheduler.register(this);
         running = true;
         startTime = -1;
+        final Set<Node> animatedNodes = new LinkedHashSet<>();
         for (AnimationHandler animationHandler : animationHandlers) {
             animationHandler.init();
+            animationHandler.collectNodes(animatedNodes);
         }
         for (CacheMemento cache : caches) {
             cache.cache();
+            animatedNodes.add(cache.getNode());
         }
+        nodes = animatedNodes.toArray(new Node[0]);
     }
 
     @Override
@@ -103,7 +134,8 @@ public class JFXAnimationTimer extends AnimationTimer {
         startTime = startTime == -1 ? now : startTime;
         totalElapsedMilliseconds = (now - startTime) / 1000000.0;
         boolean stop = true;
-        for (AnimationHandler handler : animationHandlers) {
+        for (int i = 0; i < animationHandlers.size(); i++) {
+            final AnimationHandler handler = animationHandlers.get(i);
             handler.animate(totalElapsedMilliseconds);
             if (!handler.finished) {
                 stop = false;
@@ -119,22 +151,35 @@ public class JFXAnimationTimer extends AnimationTimer {
      * started otherwise it will start the animation.
      */
     public void reverseAndContinue() {
+        if (!Platform.isFxApplicationThread()) {
+            JFXUtilities.runInFX(this::reverseAndContinue);
+            return;
+        }
         if (isRunning()) {
-            super.stop();
             for (AnimationHandler handler : animationHandlers) {
                 handler.reverse(totalElapsedMilliseconds);
             }
             startTime = -1;
-            super.start();
         } else {
             start();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * if called from another thread, the timer is stopped on the FX thread
+     */
     @Override
     public void stop() {
-        super.stop();
-        running = false;
+        if (!Platform.isFxApplicationThread()) {
+            JFXUtilities.runInFX(this::stop);
+            return;
+        }
+        if (running) {
+            JFXAnimationScheduler.unregister(this);
+            running = false;
+        }
         for (AnimationHandler handler : animationHandlers) {
             handler.clear();
         }
@@ -147,8 +192,13 @@ public class JFXAnimationTimer extends AnimationTimer {
     }
 
     public void applyEndValues() {
-        if (isRunning()) {
-            super.stop();
+        if (!Platform.isFxApplicationThread()) {
+            JFXUtilities.runInFX(this::applyEndValues);
+            return;
+        }
+        if (running) {
+            JFXAnimationScheduler.unregister(this);
+            running = false;
         }
         for (AnimationHandler handler : animationHandlers) {
             handler.applyEndValues();
@@ -160,6 +210,35 @@ public class JFXAnimationTimer extends AnimationTimer {
         return running;
     }
 
+    /**
+     * moves the animation to its end values and stops it
+     */
+    void finish() {
+        applyEndValues();
+        stop();
+    }
+
+    /**
+     * called by the scheduler instead of {@link #handle(long)} while the animated nodes are not showing
+     *
+     * @return true if the animation duration elapsed, so it must be handled to reach its end values
+     */
+    boolean skipFrame(long now) {
+        startTime = startTime == -1 ? now : startTime;
+        final double elapsed = (now - startTime) / 1000000.0;
+        for (int i = 0; i < animationHandlers.size(); i++) {
+            final AnimationHandler handler = animationHandlers.get(i);
+            if (!handler.finished && elapsed <= handler.currentDuration) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Node[] getNodes() {
+        return nodes;
+    }
+
     private Runnable onFinished = null;
 
     public void setOnFinished(Runnable onFinished) {
@@ -184,12 +263,34 @@ public class JFXAnimationTimer extends AnimationTimer {
     }
 
     static class AnimationHandler {
+        private static final JFXKeyValue<?>[] NO_KEY_VALUES = new JFXKeyValue<?>[0];
+
+        private static final byte DOUBLE = 0;
+        private static final byte FLOAT = 1;
+        private static final byte INTEGER = 2;
+        private static final byte LONG = 3;
+
         private final double duration;
         private double currentDuration;
         private final Set<JFXKeyValue<?>> keyValues;
         private Supplier<Boolean> animationCondition;
         private boolean finished = false;
 
+        // numeric key values, their targets and start and end values are resolved when the animation
+        // starts or reverses, like the cached values of the other targets. A key value is only applied
+        // while its target supplier still returns the resolved target
+        private int numericCount = 0;
+        private JFXKeyValue<?>[] numericKeyValues = NO_KEY_VALUES;
+        private WritableValue<?>[] numericTargets = new WritableValue<?>[0];
+        private byte[] numericTypes = new byte[0];
+        // index of the start and end values of each key value, shared by the key values of a target
+        private int[] numericValueIndexes = new int[0];
+        private double[] startValues = new double[0];
+        private double[] endValues = new double[0];
+
+        // other targets
+        private int genericCount = 0;
+        private JFXKeyValue<?>[] genericKeyValues = NO_KEY_VALUES;
         private final HashMap<WritableValue<?>, Object> initialValuesMap = new HashMap<>();
         private final HashMap<WritableValue<?>, Object> endValuesMap = new HashMap<>();
 
@@ -202,24 +303,104 @@ public class JFXAnimationTimer extends AnimationTimer {
 
         public void init() {
             finished = animationCondition == null ? false : !animationCondition.get();
+            ensureCapacity(keyValues.size());
+            numericCount = 0;
+            genericCount = 0;
+            // index of the values of each numeric target, -1 for the other targets
+            final IdentityHashMap<WritableValue<?>, Integer> initialized = new IdentityHashMap<>();
             for (JFXKeyValue<?> keyValue : keyValues) {
-                if (keyValue.getTarget() != null) {
+                final WritableValue<?> target = keyValue.getTarget();
+                if (target == null) {
+                    continue;
+                }
+                Integer valueIndex = initialized.get(target);
+                final Object endValue = valueIndex == null ? keyValue.getEndValue() : null;
+                final byte type = getNumericType(target);
+                if (valueIndex == null) {
+                    valueIndex = type != -1 && endValue instanceof Number ? numericCount : -1;
+                    initialized.put(target, valueIndex);
+                    if (valueIndex != -1) {
+                        // the first key value of a target gives its end value, as for the other targets
+                        startValues[numericCount] = ((Number) target.getValue()).doubleValue();
+                        endValues[numericCount] = ((Number) endValue).doubleValue();
+                    }
+                }
+                if (valueIndex != -1) {
+                    numericKeyValues[numericCount] = keyValue;
+                    numericTargets[numericCount] = target;
+                    numericTypes[numericCount] = type;
+                    numericValueIndexes[numericCount] = valueIndex;
+                    numericCount++;
+                } else {
+                    genericKeyValues[genericCount++] = keyValue;
                     // replaced putIfAbsent for mobile compatibility
-                    if (!initialValuesMap.containsKey(keyValue.getTarget())) {
-                        initialValuesMap.put(keyValue.getTarget(), keyValue.getTarget().getValue());
+                    if (!initialValuesMap.containsKey(target)) {
+                        initialValuesMap.put(target, target.getValue());
                     }
-                    if (!endValuesMap.containsKey(keyValue.getTarget())) {
-                        endValuesMap.put(keyValue.getTarget(), keyValue.getEndValue());
+                    if (!endValuesMap.containsKey(target)) {
+                        endValuesMap.put(target, keyValue.getEndValue());
                     }
                 }
             }
         }
 
+        private void ensureCapacity(int capacity) {
+            if (numericKeyValues.length < capacity) {
+                numericKeyValues = new JFXKeyValue<?>[capacity];
+                numericTargets = new WritableValue<?>[capacity];
+                numericTypes = new byte[capacity];
+                numericValueIndexes = new int[capacity];
+                startValues = new double[capacity];
+                endValues = new double[capacity];
+                genericKeyValues = new JFXKeyValue<?>[capacity];
+            }
+        }
+
+        /**
+         * adds the nodes owning the animated properties
+         */
+        void collectNodes(Set<Node> nodes) {
+            for (int i = 0; i < numericCount; i++) {
+                addBean(numericTargets[i], nodes);
+            }
+            for (int i = 0; i < genericCount; i++) {
+                addBean(genericKeyValues[i].getTarget(), nodes);
+            }
+        }
+
+        private static void addBean(WritableValue<?> target, Set<Node> nodes) {
+            if (target instanceof ReadOnlyProperty && ((ReadOnlyProperty<?>) target).getBean() instanceof Node) {
+                nodes.add((Node) ((ReadOnlyProperty<?>) target).getBean());
+            }
+        }
+
+        private static byte getNumericType(WritableValue<?> target) {
+            if (target instanceof WritableDoubleValue) {
+                return DOUBLE;
+            } else if (target instanceof WritableFloatValue) {
+                return FLOAT;
+            } else if (target instanceof WritableIntegerValue) {
+                return INTEGER;
+            } else if (target instanceof WritableLongValue) {
+                return LONG;
+            }
+            return -1;
+        }
+
         void reverse(double now) {
             finished = animationCondition == null ? false : !animationCondition.get();
             currentDuration = duration - (currentDuration - now);
             // update initial values
-            for (JFXKeyValue<?> keyValue : keyValues) {
+            for (int i = 0; i < numericCount; i++) {
+                final int valueIndex = numericValueIndexes[i];
+                startValues[valueIndex] = ((Number) numericTargets[i].getValue()).doubleValue();
+                final Object endValue = numericKeyValues[i].getEndValue();
+                if (endValue instanceof Number) {
+                    endValues[valueIndex] = ((Number) endValue).doubleValue();
+                }
+            }
+            for (int i = 0; i < genericCount; i++) {
+                final JFXKeyValue<?> keyValue = genericKeyValues[i];
                 final WritableValue<?> target = keyValue.getTarget();
                 if (target != null) {
                     initialValuesMap.put(target, target.getValue());
@@ -236,12 +417,21 @@ public class JFXAnimationTimer extends AnimationTimer {
                 return;
             }
             if (now <= currentDuration) {
-                for (JFXKeyValue<?> keyValue : keyValues) {
+                final double fraction = now / currentDuration;
+                for (int i = 0; i < numericCount; i++) {
+                    // each key value of a target is checked, the last valid one sets the value
+                    final JFXKeyValue<?> keyValue = numericKeyValues[i];
+                    if (keyValue.isValid() && keyValue.getTarget() == numericTargets[i]) {
+                        interpolate(i, fraction);
+                    }
+                }
+                for (int i = 0; i < genericCount; i++) {
+                    final JFXKeyValue<?> keyValue = genericKeyValues[i];
                     if (keyValue.isValid()) {
                         final WritableValue target = keyValue.getTarget();
                         final Object endValue = endValuesMap.get(target);
                         if (endValue != null && target != null && !target.getValue().equals(endValue)) {
-                            target.setValue(keyValue.getInterpolator().interpolate(initialValuesMap.get(target), endValue, now / currentDuration));
+                            target.setValue(keyValue.getInterpolator().interpolate(initialValuesMap.get(target), endValue, fraction));
                         }
                     }
                 }
@@ -263,6 +453,45 @@ public class JFXAnimationTimer extends AnimationTimer {
             }
         }
 
+        /**
+         * interpolates a numeric target without boxing its values
+         */
+        private void interpolate(int i, double fraction) {
+            final Interpolator interpolator = numericKeyValues[i].getInterpolator();
+            final double start = startValues[numericValueIndexes[i]];
+            final double end = endValues[numericValueIndexes[i]];
+            switch (numericTypes[i]) {
+                case DOUBLE: {
+                    final WritableDoubleValue target = (WritableDoubleValue) numericTargets[i];
+                    if (target.get() != end) {
+                        target.set(interpolator.interpolate(start, end, fraction));
+                    }
+                    break;
+                }
+                case FLOAT: {
+                    final WritableFloatValue target = (WritableFloatValue) numericTargets[i];
+                    if (target.get() != (float) end) {
+                        target.set((float) interpolator.interpolate(start, end, fraction));
+                    }
+                    break;
+                }
+                case INTEGER: {
+                    final WritableIntegerValue target = (WritableIntegerValue) numericTargets[i];
+                    if (target.get() != (int) end) {
+                        target.set(interpolator.interpolate((int) start, (int) end, fraction));
+                    }
+                    break;
+                }
+                default: {
+                    final WritableLongValue target = (WritableLongValue) numericTargets[i];
+                    if (target.get() != (long) end) {
+                        target.set(interpolator.interpolate((long) start, (long) end, fraction));
+                    }
+                    break;
+                }
+            }
+        }
+
         @SuppressWarnings({"rawtypes", "unchecked"})
         public void applyEndValues() {
             for (JFXKeyValue<?> keyValue : keyValues) {
@@ -279,6 +508,11 @@ public class JFXAnimationTimer extends AnimationTimer {
         }
 
         public void clear() {
+            Arrays.fill(numericKeyValues, 0, numericCount, null);
+            Arrays.fill(numericTargets, 0, numericCount, null);
+            Arrays.fill(genericKeyValues, 0, genericCount, null);
+            numericCount = 0;
+            genericCount = 0;
             initialValuesMap.clear();
             endValuesMap.clear();
         }
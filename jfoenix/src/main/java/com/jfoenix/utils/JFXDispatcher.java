@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.utils;
+
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
+import javafx.application.Platform;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * <h1>Coalescing FX thread dispatcher</h1>
+ * JFXDispatcher queues the updates made from background threads and runs all of them
+ * at the start of the next pulse, before CSS and layout, so one pulse handles all the
+ * updates queued since the last one instead of one FX event per update.
+ * <p>
+ * updates dispatched with a key are coalesced: if an update with the same key is still
+ * queued it's replaced, so only the last write is applied. keys are compared using
+ * {@link Object#equals(Object)}.
+ * <p>
+ * queued updates are run in the order they were dispatched. an update dispatched from
+ * the FX thread runs immediately only if no update is queued, otherwise it's queued
+ * after them so it never runs ahead of an earlier update.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class JFXDispatcher {
+
+    private static final Object LOCK = new Object();
+
+    private static LinkedHashMap<Object, Update> queue = new LinkedHashMap<>();
+    private static boolean scheduled = false;
+
+    /**
+     * the toolkit keeps weak references to its pulse listeners
+     */
+    private static final TKPulseListener PULSE_LISTENER = JFXDispatcher::flush;
+    private static boolean listening = false;
+
+    /**
+     * set while the queued updates are run, accessed from the FX thread only
+     */
+    private static boolean draining = false;
+
+    private JFXDispatcher() {
+    }
+
+    /**
+     * runs the specified task on the FX thread, it returns before the task is executed
+     * if called from another thread
+     *
+     * @param task to be executed
+     */
+    public static void dispatch(Runnable task) {
+        dispatch(new Object(), task);
+    }
+
+    /**
+     * runs the specified task on the FX thread, replacing the queued task
+     * of the same key if any
+     *
+     * @param key   of the update
+     * @param task  to be executed
+     */
+    public static void dispatch(Object key, Runnable task) {
+        enqueue(key, new Update(task, null));
+    }
+
+    /**
+     * runs the specified task on the FX thread without blocking the caller
+     *
+     * @param task to be executed
+     * @return future completed once the task is executed
+     */
+    public static CompletableFuture<Void> dispatchAsync(Runnable task) {
+        return dispatchAsync(new Object(), task);
+    }
+
+    /**
+     * runs the specified task on the FX thread without blocking the caller,
+     * replacing the queued task of the same key if any. the future of a replaced
+     * task is completed once the task replacing it is executed.
+     *
+     * @param key   of the update
+     * @param task  to be executed
+     * @return future completed once the task is executed
+     */
+    public static CompletableFuture<Void> dispatchAsync(Object key, Runnable task) {
+        return supplyAsync(key, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * computes a value on the FX thread without blocking the caller
+     *
+     * @param supplier computing the value
+     * @return future completed with the computed value
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return supplyAsync(new Object(), supplier);
+    }
+
+    private static <T> CompletableFuture<T> supplyAsync(Object key, Supplier<T> supplier) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        enqueue(key, new Update(() -> future.complete(supplier.get()), future));
+        return future;
+    }
+
+    /**
+     * runs all the queued tasks, including the ones queued while running them,
+     * must be called from the FX thread
+     */
+    public static void flush() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            while (true) {
+                final LinkedHashMap<Object, Update> updates;
+                synchronized (LOCK) {
+                    scheduled = false;
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    updates = queue;
+                    queue = new LinkedHashMap<>();
+                }
+                for (Update update : updates.values()) {
+                    update.run();
+                }
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    /**
+     * @return the number of tasks waiting to be executed
+     */
+    public static int getPendingCount() {
+        synchronized (LOCK) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * runs the specified task on the FX thread after the queued tasks, without waiting
+     * for the next pulse. used by the callers blocked until the task is executed.
+     *
+     * @param task to be executed
+     */
+    static void dispatchNow(Runnable task) {
+        enqueue(new Object(), new Update(task, null));
+        Platform.runLater(JFXDispatcher::flush);
+    }
+
+    private static void enqueue(Object key, Update update) {
+        final boolean fxThread = Platform.isFxApplicationThread();
+        final boolean runNow;
+        boolean schedule = false;
+        synchronized (LOCK) {
+            runNow = fxThread && !draining && queue.isEmpty();
+            if (!runNow) {
+                // the replacing update is moved to the end of the queue
+                final Update replaced = queue.remove(key);
+                if (replaced != null) {
+                    update.replace(replaced);
+                }
+                queue.put(key, update);
+                schedule = !scheduled;
+                scheduled = true;
+            }
+        }
+        if (runNow) {
+            update.run();
+        } else if (schedule && !(fxThread && draining)) {
+            // updates queued while draining are run by the same drain
+            Platform.runLater(JFXDispatcher::requestPulse);
+        }
+    }
+
+    private static void requestPulse() {
+        if (!listening) {
+            // stage pulse listeners are notified before the scenes are laid out
+            Toolkit.getToolkit().addStageTkPulseListener(PULSE_LISTENER);
+            listening = true;
+        }
+        Toolkit.getToolkit().requestNextPulse();
+    }
+
+    private static final class Update {
+        private final Runnable task;
+        private CompletableFuture<?> future;
+
+        Update(Runnable task, CompletableFuture<?> future) {
+            this.task = task;
+            this.future = future;
+        }
+
+        void replace(Update replaced) {
+            if (replaced.future == null) {
+                return;
+            }
+            final CompletableFuture<?> replacedFuture = replaced.future;
+            if (future == null) {
+                future = new CompletableFuture<>();
+            }
+            future.whenComplete((value, exception) -> {
+                if (exception != null) {
+                    replacedFuture.completeExceptionally(exception);
+                } else {
+                    replacedFuture.complete(null);
+                }
+            });
+        }
+
+        void run() {
+            try {
+                task.run();
+                if (future != null && !future.isDone()) {
+                    future.complete(null);
+                }
+            } catch (Throwable exception) {
+                if (future != null) {
+                    future.completeExceptionally(exception);
+                } else {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+                }
+            }
+        }
+    }
+}
@@ -21,23 +21,26 @@
 
 package com.jfoenix.utils;
 
-import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.scene.text.TextLayout;
-import com.sun.javafx.scene.text.TextLine;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
-import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 
@@ -50,6 +53,12 @@ import java.util.*;
 /**
  * JFXHighlighter is used to highlight Text and LabeledText nodes
  * (in a specific {@link Parent}) that matches the user query.
+ * <p>
+ * the text nodes of the parent are registered once, then the registry is updated
+ * as the scene graph changes. Only the matches inside the visible area of the scene
+ * are highlighted, the others are highlighted once scrolled into view.
+ * <b>Note:</b> queries and scene graph changes are collected and applied at once on the
+ * next FX event cycle, the last query requested before that wins.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -57,10 +66,37 @@ import java.util.*;
  */
 public class JFXHighlighter {
 
+    private static final int MAX_POOLED_RECTANGLES = 256;
+
     private Parent parent;
-    private final HashMap<Node, List<Rectangle>> boxes = new HashMap<>();
+    private String query;
     private final ObjectProperty<Paint> paint = new SimpleObjectProperty<>(Color.rgb(255, 0, 0, 0.4));
 
+    // registry of the text nodes of the parent
+    private final IdentityHashMap<Text, TextEntry> texts = new IdentityHashMap<>();
+    private final Set<Parent> observedParents = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ListChangeListener<Node> childrenListener = change -> {
+        while (change.next()) {
+            for (Node node : change.getRemoved()) {
+                unregister(node);
+            }
+            for (Node node : change.getAddedSubList()) {
+                register(node);
+            }
+        }
+    };
+    // text entries containing the query
+    private List<TextEntry> matches = new ArrayList<>();
+    private final ArrayDeque<Rectangle> rectanglePool = new ArrayDeque<>();
+
+    // pending changes, applied once by applyUpdates
+    private boolean updateScheduled = false;
+    private boolean requested = false;
+    private Parent requestedParent;
+    private String requestedQuery;
+    private final Set<TextEntry> dirtyEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Rectangle> removedRectangles = newRectangleSet();
+
     private Method textLayoutMethod;
     private Field parentChildrenField;
     {
@@ -79,69 +115,186 @@ public class JFXHighlighter {
      * @param pane node to search into its text
      * @param query search text
      */
-    public synchronized void highlight(Parent pane, String query) {
-        if (this.parent != null && !boxes.isEmpty()) {
-            clear();
-        }
-        if(query == null || query.isEmpty()) return;
-
-        this.parent = pane;
-
-        Set<Node> nodes = getTextNodes(pane);
-
-        ArrayList<Rectangle> allRectangles = new ArrayList<>();
-        for (Node node : nodes) {
-            Text text = ((Text) node);
-            final int beginIndex = text.getText().toLowerCase().indexOf(query.toLowerCase());
-            if (beginIndex > -1 && node.impl_isTreeVisible()) {
-                ArrayList<Bounds> boundingBoxes = getMatchingBounds(query, text);
-                ArrayList<Rectangle> rectangles = new ArrayList<>();
-                for (Bounds boundingBox : boundingBoxes) {
-                    HighLightRectangle rect = new HighLightRectangle(text);
-                    rect.setCacheHint(CacheHint.SPEED);
-                    rect.setCache(true);
-                    rect.setMouseTransparent(true);
-                    rect.setBlendMode(BlendMode.MULTIPLY);
-                    rect.fillProperty().bind(paintProperty());
-                    rect.setManaged(false);
-                    rect.setX(boundingBox.getMinX());
-                    rect.setY(boundingBox.getMinY());
-                    rect.setWidth(boundingBox.getWidth());
-                    rect.setHeight(boundingBox.getHeight());
-                    rectangles.add(rect);
-                    allRectangles.add(rect);
-                }
-                boxes.put(node, rectangles);
+    public void highlight(Parent pane, String query) {
+        JFXUtilities.runInFX(() -> request(pane, query));
+    }
+
+    /**
+     * clear highlights
+     */
+    public void clear() {
+        JFXUtilities.runInFX(() -> request(requested ? requestedParent : parent, null));
+    }
+
+    private void request(Parent pane, String query) {
+        requestedParent = pane;
+        requestedQuery = query;
+        requested = true;
+        scheduleUpdate();
+    }
+
+    private void markDirty(TextEntry entry) {
+        dirtyEntries.add(entry);
+        scheduleUpdate();
+    }
+
+    private void scheduleUpdate() {
+        if (!updateScheduled) {
+            updateScheduled = true;
+            Platform.runLater(this::applyUpdates);
+        }
+    }
+
+    private void applyUpdates() {
+        updateScheduled = false;
+        final List<Rectangle> added = new ArrayList<>();
+        if (requested) {
+            requested = false;
+            final Parent pane = requestedParent;
+            final String query = requestedQuery;
+            requestedParent = null;
+            requestedQuery = null;
+            updateHighlight(pane, query, added);
+        }
+        for (TextEntry entry : dirtyEntries) {
+            entry.refresh(added);
+        }
+        dirtyEntries.clear();
+        applyChanges(added);
+    }
+
+    private void updateHighlight(Parent pane, String query, List<Rectangle> added) {
+        if (pane != parent) {
+            clearHighlight();
+            // the rectangles are removed from the previous parent
+            applyChanges(Collections.emptyList());
+            setParent(pane);
+        }
+        if (query == null || query.isEmpty()) {
+            clearHighlight();
+            return;
+        }
+
+        final String lowerQuery = query.toLowerCase(Locale.ROOT);
+        // a refined query can only match the texts matched by the previous one
+        final Collection<TextEntry> candidates = this.query != null && lowerQuery.startsWith(this.query) ?
+            matches : texts.values();
+        this.query = lowerQuery;
+
+        final List<TextEntry> newMatches = new ArrayList<>();
+        for (TextEntry entry : candidates) {
+            if (entry.indexOf(lowerQuery, 0) != -1) {
+                newMatches.add(entry);
+            } else {
+                entry.setMatched(false);
             }
         }
+        matches = newMatches;
+        for (TextEntry entry : newMatches) {
+            entry.setMatched(true);
+            entry.update(added);
+            dirtyEntries.remove(entry);
+        }
+    }
 
-        JFXUtilities.runInFXAndWait(()-> getParentChildren(pane).addAll(allRectangles));
+    private void clearHighlight() {
+        for (TextEntry entry : matches) {
+            entry.setMatched(false);
+        }
+        matches = new ArrayList<>();
+        query = null;
     }
 
-    private class HighLightRectangle extends Rectangle{
-        // add listener to remove the current rectangle if text was changed
-        private final InvalidationListener listener;
+    private void setParent(Parent pane) {
+        for (Parent observed : observedParents) {
+            observed.getChildrenUnmodifiable().removeListener(childrenListener);
+        }
+        observedParents.clear();
+        for (TextEntry entry : texts.values()) {
+            entry.dispose();
+        }
+        texts.clear();
+        parent = pane;
+        if (pane != null) {
+            register(pane);
+        }
+    }
 
-        public HighLightRectangle(Text text) {
-            listener = observable -> clear(text);
-            text.textProperty().addListener(new WeakInvalidationListener(listener));
-            text.localToSceneTransformProperty().addListener(new WeakInvalidationListener(listener));
+    private void register(Node node) {
+        if (node instanceof Text) {
+            final Text text = (Text) node;
+            if (!texts.containsKey(text)) {
+                final TextEntry entry = new TextEntry(text);
+                texts.put(text, entry);
+                if (query != null && entry.indexOf(query, 0) != -1) {
+                    matches.add(entry);
+                    entry.setMatched(true);
+                    markDirty(entry);
+                }
+            }
+        } else if (node instanceof Parent && observedParents.add((Parent) node)) {
+            final ObservableList<Node> children = ((Parent) node).getChildrenUnmodifiable();
+            children.addListener(childrenListener);
+            for (Node child : children) {
+                register(child);
+            }
         }
+    }
 
-        private void clear(Text text) {
-            final List<Rectangle> rectangles = boxes.get(text);
-            if(rectangles != null && !rectangles.isEmpty())
-                Platform.runLater(() -> getParentChildren(parent).removeAll(rectangles));
+    private void unregister(Node node) {
+        if (node instanceof Text) {
+            final TextEntry entry = texts.remove(node);
+            if (entry != null) {
+                if (entry.matched) {
+                    matches.remove(entry);
+                    // the rectangles are removed outside of the children change notification
+                    entry.setMatched(false);
+                    scheduleUpdate();
+                }
+                dirtyEntries.remove(entry);
+                entry.dispose();
+            }
+        } else if (node instanceof Parent && node != parent && observedParents.remove(node)) {
+            final ObservableList<Node> children = ((Parent) node).getChildrenUnmodifiable();
+            children.removeListener(childrenListener);
+            for (Node child : children) {
+                unregister(child);
+            }
         }
     }
 
-    private Set<Node> getTextNodes(Parent pane) {
-        Set<Node> labeledTextNodes = pane.lookupAll("LabeledText");
-        Set<Node> textNodes = pane.lookupAll("Text");
-        Set<Node> nodes = new HashSet<>();
-        nodes.addAll(labeledTextNodes);
-        nodes.addAll(textNodes);
-        return nodes;
+    private void applyChanges(List<Rectangle> added) {
+        if (parent != null && (!removedRectangles.isEmpty() || !added.isEmpty())) {
+            final ObservableList<Node> children = getParentChildren(parent);
+            if (!removedRectangles.isEmpty()) {
+                children.removeAll(removedRectangles);
+            }
+            children.addAll(added);
+        }
+        for (Rectangle rectangle : removedRectangles) {
+            if (rectanglePool.size() < MAX_POOLED_RECTANGLES) {
+                rectanglePool.push(rectangle);
+            }
+        }
+        removedRectangles.clear();
+    }
+
+    private Rectangle obtainRectangle() {
+        Rectangle rect = rectanglePool.poll();
+        if (rect == null) {
+            rect = new Rectangle();
+            rect.setCacheHint(CacheHint.SPEED);
+            rect.setCache(true);
+            rect.setMouseTransparent(true);
+            rect.setBlendMode(BlendMode.MULTIPLY);
+            rect.fillProperty().bind(paintProperty());
+            rect.setManaged(false);
+        }
+        return rect;
+    }
+
+    private static Set<Rectangle> newRectangleSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     @SuppressWarnings("unchecked")
@@ -154,73 +307,180 @@ public class JFXHighlighter {
         return null;
     }
 
-    private ArrayList<Bounds> getMatchingBounds(String query, Text text) {
-        // find local text bounds in parent
-        Bounds textBounds = parent.sceneToLocal(text.localToScene(text.getBoundsInLocal()));
-
-        ArrayList<Bounds> rectBounds = new ArrayList<>();
-
-        TextLayout textLayout = null;
+    private TextLayout getTextLayout(Text text) {
         try {
-            textLayout = (TextLayout) textLayoutMethod.invoke(text);
+            return (TextLayout) textLayoutMethod.invoke(text);
         } catch (IllegalAccessException | InvocationTargetException e) {
             e.printStackTrace();
         }
+        return null;
+    }
 
-        int queryLength = query.length();
-        TextLine[] lines = textLayout.getLines();
-        // handle matches in all lines
-        for (int i = 0; i < lines.length; i++) {
-            TextLine line = lines[i];
-            String lineText = text.getText().substring(line.getStart(), line.getStart() + line.getLength());
-
-            final String lineTextLow = lineText.toLowerCase();
-            final String queryLow = query.toLowerCase();
-            int beginIndex = lineTextLow.indexOf(queryLow);
-            if (beginIndex == -1) {
-                continue;
+    /**
+     * @return true if the text node is shown and intersects the visible area of the scene
+     */
+    private static boolean isInViewport(Text text) {
+        final Scene scene = text.getScene();
+        if (scene == null) {
+            return false;
+        }
+        final Bounds bounds = text.localToScene(text.getBoundsInLocal());
+        if (!bounds.intersects(0, 0, scene.getWidth(), scene.getHeight())) {
+            return false;
+        }
+        for (Node node = text; node != null; node = node.getParent()) {
+            if (!node.isVisible()) {
+                return false;
             }
+            final Node clip = node.getClip();
+            if (clip != null && !node.localToScene(clip.getBoundsInParent()).intersects(bounds)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            RectBounds lineBounds = (line.getBounds());
+    private final class TextEntry {
+        private final Text text;
+        // lower case text, null if not computed yet or if its length differs from the text
+        private String lowerText;
+        private boolean lowerTextValid;
+        private boolean matched;
+        private final List<Rectangle> rectangles = new ArrayList<>(1);
+
+        private final InvalidationListener textListener = observable -> {
+            lowerTextValid = false;
+            if (query != null) {
+                markDirty(this);
+            }
+        };
+        private final InvalidationListener transformListener = observable -> markDirty(this);
 
-            // compute Y layout
-            double height = Math.round(lineBounds.getMaxY()) - Math.round(lineBounds.getMinY());
-            double startY = height * i;
+        TextEntry(Text text) {
+            this.text = text;
+            text.textProperty().addListener(textListener);
+        }
 
-            // handle multiple matches in one line
-            while (beginIndex != -1) {
-                // compute X layout
-                Text temp = new Text(lineText.substring(beginIndex, beginIndex + queryLength));
-                temp.setFont(text.getFont());
-                temp.applyCss();
-                double width = temp.getLayoutBounds().getWidth();
-                temp.setText(lineText.substring(0, beginIndex + queryLength));
-                temp.applyCss();
-                double maxX = temp.getLayoutBounds().getMaxX();
-                double startX = maxX - width;
+        void dispose() {
+            text.textProperty().removeListener(textListener);
+            text.localToSceneTransformProperty().removeListener(transformListener);
+        }
 
-                rectBounds.add(new BoundingBox(textBounds.getMinX() + startX,
-                    textBounds.getMinY() + startY,
-                    width, temp.getLayoutBounds().getHeight()));
+        int indexOf(String lowerQuery, int from) {
+            if (!lowerTextValid) {
+                final String value = text.getText() == null ? "" : text.getText();
+                final String lowerValue = value.toLowerCase(Locale.ROOT);
+                lowerText = lowerValue.length() == value.length() ? lowerValue : null;
+                lowerTextValid = true;
+            }
+            if (lowerText != null) {
+                return lowerText.indexOf(lowerQuery, from);
+            }
+            // lower casing changed the text length, compare the characters instead
+            final String value = text.getText();
+            for (int i = from; i + lowerQuery.length() <= value.length(); i++) {
+                if (value.regionMatches(true, i, lowerQuery, 0, lowerQuery.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
 
-                beginIndex = lineTextLow.indexOf(queryLow, beginIndex + queryLength);
+        void setMatched(boolean matched) {
+            if (this.matched != matched) {
+                this.matched = matched;
+                // follow the text position to highlight it once visible
+                if (matched) {
+                    text.localToSceneTransformProperty().addListener(transformListener);
+                } else {
+                    text.localToSceneTransformProperty().removeListener(transformListener);
+                }
+            }
+            if (!matched) {
+                removedRectangles.addAll(rectangles);
+                rectangles.clear();
             }
         }
 
-        return rectBounds;
-    }
+        /**
+         * updates the match state and the highlight rectangles of a changed text
+         */
+        void refresh(List<Rectangle> added) {
+            if (texts.get(text) != this || query == null) {
+                return;
+            }
+            final boolean isMatched = indexOf(query, 0) != -1;
+            if (matched != isMatched) {
+                if (isMatched) {
+                    matches.add(this);
+                } else {
+                    matches.remove(this);
+                }
+            }
+            setMatched(isMatched);
+            if (isMatched) {
+                update(added);
+            }
+        }
 
-    /**
-     * clear highlights
-     */
-    public synchronized void clear() {
-        List<Rectangle> flatBoxes = new ArrayList<>();
-        final Collection<List<Rectangle>> boxesCollection = boxes.values();
-        for (List<Rectangle> box : boxesCollection) {
-            flatBoxes.addAll(box);
-        }
-        boxes.clear();
-        if(parent!=null) JFXUtilities.runInFXAndWait(()-> getParentChildren(parent).removeAll(flatBoxes));
+        /**
+         * recomputes the highlight rectangles of the text
+         */
+        void update(List<Rectangle> added) {
+            // the current rectangles are reused before taking pooled ones
+            final List<Rectangle> previous = new ArrayList<>(rectangles);
+            rectangles.clear();
+            int reused = 0;
+            final TextLayout layout = isInViewport(text) ? getTextLayout(text) : null;
+            if (layout == null) {
+                removedRectangles.addAll(previous);
+                return;
+            }
+            // offset of the text layout in the text node
+            final BaseBounds layoutBounds = layout.getBounds();
+            final Bounds textBounds = text.getLayoutBounds();
+            final double offsetX = textBounds.getMinX() - layoutBounds.getMinX();
+            final double offsetY = textBounds.getMinY() - layoutBounds.getMinY();
+
+            final int length = query.length();
+            for (int index = indexOf(query, 0); index != -1; index = indexOf(query, index + length)) {
+                final PathElement[] range = layout.getRange(index, index + length, TextLayout.TYPE_TEXT, 0, 0);
+                // the range is a list of rectangles, one per line
+                double minX = 0, minY = 0, maxX = 0, maxY = 0;
+                for (int i = 0; i <= range.length; i++) {
+                    if (i == range.length || range[i] instanceof MoveTo) {
+                        if (i > 0 && maxX > minX && maxY > minY) {
+                            final Bounds bounds = parent.sceneToLocal(text.localToScene(
+                                new BoundingBox(offsetX + minX, offsetY + minY, maxX - minX, maxY - minY)));
+                            final Rectangle rect;
+                            if (reused < previous.size()) {
+                                rect = previous.get(reused++);
+                            } else {
+                                rect = obtainRectangle();
+                                added.add(rect);
+                            }
+                            rect.setX(bounds.getMinX());
+                            rect.setY(bounds.getMinY());
+                            rect.setWidth(bounds.getWidth());
+                            rect.setHeight(bounds.getHeight());
+                            rectangles.add(rect);
+                        }
+                        if (i < range.length) {
+                            final MoveTo moveTo = (MoveTo) range[i];
+                            minX = maxX = moveTo.getX();
+                            minY = maxY = moveTo.getY();
+                        }
+                    } else if (range[i] instanceof LineTo) {
+                        final LineTo lineTo = (LineTo) range[i];
+                        minX = Math.min(minX, lineTo.getX());
+                        minY = Math.min(minY, lineTo.getY());
+                        maxX = Math.max(maxX, lineTo.getX());
+                        maxY = Math.max(maxY, lineTo.getY());
+                    }
+                }
+            }
+            removedRectangles.addAll(previous.subList(reused, previous.size()));
+        }
     }
 
     public Paint getPaint() {
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.utils;
+
+import com.sun.javafx.collections.UnmodifiableListSet;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JFXNodeIndex is an opt-in index of the nodes of a scene graph subtree by class and
+ * by style class, it's used to query the nodes of a root without traversing its subtree.
+ * <p>
+ * the index is built on the first query, then maintained from the children and style class
+ * list changes, so a query costs O(matches). {@link #invalidate()} drops the index, which
+ * is rebuilt on the next query, and {@link #dispose()} stops following the subtree.
+ * <b>Note:</b> the index must be used on the FX thread.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ * @see JFXNodeUtils#getNodeIndex(Parent)
+ */
+public class JFXNodeIndex {
+
+    private final Parent root;
+    private boolean valid = false;
+
+    // indexed nodes by their style class list
+    private final IdentityHashMap<ObservableList<String>, Node> nodes = new IdentityHashMap<>();
+    private final Map<Class<?>, Set<Node>> nodesByClass = new LinkedHashMap<>();
+    private final Map<String, Set<Node>> nodesByStyleClass = new HashMap<>();
+
+    private final ListChangeListener<Node> childrenListener = change -> {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Node node : change.getRemoved()) {
+                remove(node);
+            }
+            for (Node node : change.getAddedSubList()) {
+                add(node);
+            }
+        }
+    };
+
+    private final ListChangeListener<String> styleClassListener = change -> {
+        final Node node = nodes.get(change.getList());
+        if (node == null) {
+            return;
+        }
+        while (change.next()) {
+            for (String styleClass : change.getRemoved()) {
+                // the style class list can contain duplicates
+                if (!node.getStyleClass().contains(styleClass)) {
+                    removeFrom(nodesByStyleClass, styleClass, node);
+                }
+            }
+            for (String styleClass : change.getAddedSubList()) {
+                nodesByStyleClass.computeIfAbsent(styleClass, key -> new LinkedHashSet<>()).add(node);
+            }
+        }
+    };
+
+    /**
+     * creates an index for the specified root and its descendants
+     *
+     * @param root of the indexed subtree
+     */
+    public JFXNodeIndex(Parent root) {
+        this.root = root;
+    }
+
+    public Parent getRoot() {
+        return root;
+    }
+
+    /**
+     * <b>Note:</b> unlike {@link JFXNodeUtils#getAllChildren(Node, Class)}, the matching
+     * nodes nested in other matching nodes are returned too, see {@link #getTopmostNodes(Class)}.
+     *
+     * @param type of the nodes
+     * @return the nodes of the subtree (including the root) that are instances of the specified type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Set<T> getNodes(Class<T> type) {
+        validate();
+        final List<T> result = new ArrayList<>();
+        for (Map.Entry<Class<?>, Set<Node>> entry : nodesByClass.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                for (Node node : entry.getValue()) {
+                    result.add((T) node);
+                }
+            }
+        }
+        return new UnmodifiableListSet<>(result);
+    }
+
+    /**
+     * returns the same nodes as {@link JFXNodeUtils#getAllChildren(Node, Class)}: the root if
+     * it's an instance of the specified type, otherwise the matching nodes of the subtree that
+     * are not nested in another matching node. The order of the nodes may differ.
+     *
+     * @param type of the nodes
+     * @return the topmost nodes of the subtree that are instances of the specified type
+     */
+    public <T> Set<T> getTopmostNodes(Class<T> type) {
+        final List<T> result = new ArrayList<>();
+        for (T match : getNodes(type)) {
+            boolean nested = false;
+            for (Node node = (Node) match; node != root && !nested; ) {
+                node = node.getParent();
+                nested = node == null || type.isInstance(node);
+            }
+            if (!nested) {
+                result.add(match);
+            }
+        }
+        return new UnmodifiableListSet<>(result);
+    }
+
+    /**
+     * @param styleClass css style class
+     * @return the nodes of the subtree (including the root) having the specified style class
+     */
+    public Set<Node> getNodesWithStyleClass(String styleClass) {
+        validate();
+        final Set<Node> result = nodesByStyleClass.get(styleClass);
+        return result == null ? Collections.emptySet() : new UnmodifiableListSet<>(new ArrayList<>(result));
+    }
+
+    /**
+     * @return the number of indexed nodes
+     */
+    public int size() {
+        validate();
+        return nodes.size();
+    }
+
+    /**
+     * drops the index, it will be rebuilt on the next query
+     */
+    public void invalidate() {
+        if (valid) {
+            for (Node node : new ArrayList<>(nodes.values())) {
+                unregister(node);
+            }
+            nodes.clear();
+            nodesByClass.clear();
+            nodesByStyleClass.clear();
+            valid = false;
+        }
+    }
+
+    /**
+     * stops following the subtree changes and releases the index
+     */
+    public void dispose() {
+        invalidate();
+    }
+
+    private void validate() {
+        if (!valid) {
+            valid = true;
+            add(root);
+        }
+    }
+
+    private void add(Node node) {
+        if (nodes.put(node.getStyleClass(), node) != null) {
+            return;
+        }
+        nodesByClass.computeIfAbsent(node.getClass(), key -> new LinkedHashSet<>()).add(node);
+        for (String styleClass : node.getStyleClass()) {
+            nodesByStyleClass.computeIfAbsent(styleClass, key -> new LinkedHashSet<>()).add(node);
+        }
+        node.getStyleClass().addListener(styleClassListener);
+        if (node instanceof Parent) {
+            final ObservableList<Node> children = ((Parent) node).getChildrenUnmodifiable();
+            children.addListener(childrenListener);
+            for (Node child : children) {
+                add(child);
+            }
+        }
+    }
+
+    private void remove(Node node) {
+        if (nodes.remove(node.getStyleClass()) == null) {
+            return;
+        }
+        removeFrom(nodesByClass, node.getClass(), node);
+        for (String styleClass : node.getStyleClass()) {
+            removeFrom(nodesByStyleClass, styleClass, node);
+        }
+        unregister(node);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                remove(child);
+            }
+        }
+    }
+
+    private void unregister(Node node) {
+        node.getStyleClass().removeListener(styleClassListener);
+        if (node instanceof Parent) {
+            ((Parent) node).getChildrenUnmodifiable().removeListener(childrenListener);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Node>> index, K key, Node node) {
+        final Set<Node> indexed = index.get(key);
+        if (indexed != null && indexed.remove(node) && indexed.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
@@ -179,6 +180,14 @@ public class JFXNodeUtils {
         T content;
     }
 
+    /**
+     * returns the nodes of the specified class in the subtree of the root, the root itself
+     * if it matches. The children of the matching nodes are not searched.
+     * <p>
+     * for repeated queries over the same root, {@link JFXNodeIndex#getTopmostNodes(Class)} of
+     * {@link #getNodeIndex(Parent)} returns the same nodes, while {@link JFXNodeIndex#getNodes(Class)}
+     * also returns the matching nodes nested in other matching nodes.
+     */
     public static <T> Set<T> getAllChildren(Node root, Class<T> childClass) {
         final List<T> selectedChildren = new ArrayList<>();
         Queue<Node> queue = new ArrayDeque<>();
@@ -187,12 +196,42 @@ public class JFXNodeUtils {
             Node head = queue.poll();
             if (childClass.isInstance(head)) {
                 selectedChildren.add((T) head);
-            } else if (head instanceof Region) {
-                ((Region) head).getChildrenUnmodifiable().forEach(queue::offer);
+            } else if (head instanceof Parent) {
+                queue.addAll(((Parent) head).getChildrenUnmodifiable());
             }
         }
         return new UnmodifiableListSet<>(selectedChildren);
     }
 
+    private static final String NODE_INDEX_KEY = "jfx-node-index";
+
+    /**
+     * returns the node index of the specified root, the index is created on the first
+     * call and kept in the root properties until {@link #removeNodeIndex(Parent)} is called
+     *
+     * @param root of the indexed subtree
+     * @return the node index of the root
+     */
+    public static JFXNodeIndex getNodeIndex(Parent root) {
+        Object index = root.getProperties().get(NODE_INDEX_KEY);
+        if (!(index instanceof JFXNodeIndex)) {
+            index = new JFXNodeIndex(root);
+            root.getProperties().put(NODE_INDEX_KEY, index);
+        }
+        return (JFXNodeIndex) index;
+    }
+
+    /**
+     * disposes the node index of the specified root, if any
+     *
+     * @param root of the indexed subtree
+     */
+    public static void removeNodeIndex(Parent root) {
+        Object index = root.getProperties().remove(NODE_INDEX_KEY);
+        if (index instanceof JFXNodeIndex) {
+            ((JFXNodeIndex) index).dispose();
+        }
+    }
+
 
 }
@@ -48,11 +48,7 @@ public class JFXUtilities {
      * @return Nothing
      */
     public static void runInFX(Runnable doRun) {
-        if (Platform.isFxApplicationThread()) {
-            doRun.run();
-            return;
-        }
-        Platform.runLater(doRun);
+        JFXDispatcher.dispatch(doRun);
     }
 
     /**
@@ -68,7 +64,8 @@ public class JFXUtilities {
             return;
         }
         final CountDownLatch doneLatch = new CountDownLatch(1);
-        Platform.runLater(() -> {
+        // task exceptions are reported on the FX thread, as with Platform.runLater
+        JFXDispatcher.dispatchNow(() -> {
             try {
                 doRun.run();
             } finally {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <h1>Shared executor for JFoenix background work</h1>
+ * JFoenixExecutors runs the background work of all JFoenix controls on a single bounded
+ * executor, using virtual threads on Java 21 and newer and a small pool of daemon threads
+ * otherwise. Delayed tasks are scheduled by one timer thread then handed to the executor.
+ * <p>
+ * queue depth, active tasks and task latency metrics are exposed to monitor the executor.
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class JFoenixExecutors {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int VIRTUAL_POOL_SIZE = 256;
+    private static final int PLATFORM_POOL_SIZE = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final boolean VIRTUAL;
+    private static final ThreadPoolExecutor WORKERS;
+    private static final ScheduledThreadPoolExecutor SCHEDULER;
+
+    private static final AtomicInteger ACTIVE_TASKS = new AtomicInteger();
+    private static final LongAdder COMPLETED_TASKS = new LongAdder();
+    private static final LongAdder TOTAL_LATENCY = new LongAdder();
+    private static final AtomicLong MAX_LATENCY = new AtomicLong();
+    private static final LongAdder TOTAL_DURATION = new LongAdder();
+
+    private static final Executor EXECUTOR = JFoenixExecutors::execute;
+
+    static {
+        ThreadFactory threadFactory = VirtualThreads.factory("JFoenix Worker-");
+        VIRTUAL = threadFactory != null;
+        if (threadFactory == null) {
+            threadFactory = daemonThreadFactory("JFoenix Worker-");
+        }
+        final int poolSize = VIRTUAL ? VIRTUAL_POOL_SIZE : PLATFORM_POOL_SIZE;
+        WORKERS = new ThreadPoolExecutor(poolSize, poolSize, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory);
+        WORKERS.allowCoreThreadTimeOut(true);
+
+        SCHEDULER = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("JFoenix Scheduler-"));
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    private JFoenixExecutors() {
+    }
+
+    /**
+     * @return executor view of the shared executor, to be used with {@link CompletableFuture}
+     */
+    public static Executor executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * runs the specified task on the shared executor
+     *
+     * @param task to be executed
+     * @throws java.util.concurrent.RejectedExecutionException if the executor queue is full
+     */
+    public static void execute(Runnable task) {
+        final long submitTime = System.nanoTime();
+        WORKERS.execute(() -> {
+            final long startTime = System.nanoTime();
+            final long latency = startTime - submitTime;
+            TOTAL_LATENCY.add(latency);
+            MAX_LATENCY.accumulateAndGet(latency, Math::max);
+            ACTIVE_TASKS.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                ACTIVE_TASKS.decrementAndGet();
+                TOTAL_DURATION.add(System.nanoTime() - startTime);
+                COMPLETED_TASKS.increment();
+            }
+        });
+    }
+
+    /**
+     * computes a value on the shared executor
+     *
+     * @param supplier computing the value
+     * @return future completed with the computed value
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, EXECUTOR);
+    }
+
+    /**
+     * runs the specified task on the shared executor after the specified delay. if the
+     * executor queue is full when the delay elapses, the task runs on the timer thread
+     * instead of being dropped, delaying the other scheduled tasks.
+     *
+     * @param task  to be executed
+     * @param delay before executing the task
+     * @param unit  of the delay
+     * @return future that can be used to cancel the task before it's handed to the executor
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return SCHEDULER.schedule(() -> {
+            try {
+                execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * @return true if the tasks run on virtual threads
+     */
+    public static boolean isVirtualThreads() {
+        return VIRTUAL;
+    }
+
+    /**
+     * @return the number of tasks waiting to be executed
+     */
+    public static int getQueueDepth() {
+        return WORKERS.getQueue().size();
+    }
+
+    /**
+     * @return the number of tasks being executed
+     */
+    public static int getActiveTasks() {
+        return ACTIVE_TASKS.get();
+    }
+
+    /**
+     * @return the number of completed tasks
+     */
+    public static long getCompletedTasks() {
+        return COMPLETED_TASKS.sum();
+    }
+
+    /**
+     * @return the average time the completed tasks waited before being executed, in milliseconds
+     */
+    public static double getAverageTaskLatency() {
+        final long completed = COMPLETED_TASKS.sum();
+        return completed == 0 ? 0 : TOTAL_LATENCY.sum() / (completed * 1e6);
+    }
+
+    /**
+     * @return the longest time a task waited before being executed, in milliseconds
+     */
+    public static double getMaxTaskLatency() {
+        return MAX_LATENCY.get() / 1e6;
+    }
+
+    /**
+     * @return the average execution time of the completed tasks, in milliseconds
+     */
+    public static double getAverageTaskDuration() {
+        final long completed = COMPLETED_TASKS.sum();
+        return completed == 0 ? 0 : TOTAL_DURATION.sum() / (completed * 1e6);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2016 JFoenix
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.jfoenix.cache;
+
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+/**
+ * output scale of the window showing a node, on JavaFX 9 and newer
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class OutputScale {
+
+    private OutputScale() {
+    }
+
+    /**
+     * @param node shown in the window
+     * @return the horizontal output scale of the window, 1 if the node is not shown
+     */
+    static double scaleX(Node node) {
+        final Window window = windowOf(node);
+        return window == null ? 1 : window.getOutputScaleX();
+    }
+
+    /**
+     * @param node shown in the window
+     * @return the vertical output scale of the window, 1 if the node is not shown
+     */
+    static double scaleY(Node node) {
+        final Window window = windowOf(node);
+        return window == null ? 1 : window.getOutputScaleY();
+    }
+
+    private static Window windowOf(Node node) {
+        final Scene scene = node.getScene();
+        return scene == null ? null : scene.getWindow();
+    }
+}
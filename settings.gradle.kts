@@ -1,3 +1,4 @@
 rootProject.name = "jfoenix-root"
 
 include("jfoenix")
+include("jfoenix-benchmarks")